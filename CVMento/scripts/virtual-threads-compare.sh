@@ -0,0 +1,98 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드와 가상 스레드(virtual-threads 프로필) 실행 모드의 처리량/지연 시간 비교
+#
+# 준비: docker compose up -d (MySQL, Redis), application.yml 설정, hey 설치 (https://github.com/rakyll/hey)
+# 실행: ./scripts/virtual-threads-compare.sh
+#
+# 환경 변수
+#   BASE_PROFILES  기본 활성 프로필 (기본값: 없음)
+#   TARGET_PATH    부하 대상 경로, 인증 필터/Redis/DB를 거치는 경로 권장 (기본값: /auth/me)
+#   CONCURRENCY    동시 요청 수 (기본값: 400, Tomcat 기본 스레드 수 200보다 크게)
+#   DURATION       모드별 측정 시간 (기본값: 60s)
+#   WARMUP         모드별 예열 시간 (기본값: 20s)
+#   PORT           서버 포트 (기본값: 8080)
+#
+# 결과: build/reports/virtual-threads/{platform,virtual}.txt (hey 요약)
+#       build/reports/virtual-threads/{platform,virtual}.log (서버 로그, 가상 스레드 모드는 pinning 스택 포함)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+BASE_PROFILES="${BASE_PROFILES:-}"
+TARGET_PATH="${TARGET_PATH:-/auth/me}"
+CONCURRENCY="${CONCURRENCY:-400}"
+DURATION="${DURATION:-60s}"
+WARMUP="${WARMUP:-20s}"
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:${PORT}"
+REPORT_DIR="build/reports/virtual-threads"
+
+command -v hey >/dev/null || { echo "hey is required: go install github.com/rakyll/hey@latest" >&2; exit 1; }
+
+# gradlew는 실행 권한 없이 커밋되어 있으므로 sh로 실행
+sh ./gradlew -q bootJar -x test
+JAR="$(ls build/libs/*.jar | grep -v -- '-plain.jar' | head -n 1)"
+mkdir -p "${REPORT_DIR}"
+
+SERVER_PID=""
+stop_server() {
+  if [[ -n "${SERVER_PID}" ]] && kill -0 "${SERVER_PID}" 2>/dev/null; then
+    kill "${SERVER_PID}"
+    wait "${SERVER_PID}" 2>/dev/null || true
+  fi
+  SERVER_PID=""
+}
+trap stop_server EXIT
+
+profiles_for() {
+  local extra="$1"
+  if [[ -z "${BASE_PROFILES}" ]]; then
+    echo "${extra}"
+  elif [[ -z "${extra}" ]]; then
+    echo "${BASE_PROFILES}"
+  else
+    echo "${BASE_PROFILES},${extra}"
+  fi
+}
+
+run_mode() {
+  local mode="$1" profiles="$2"
+  echo "== ${mode} (profiles: ${profiles:-default})"
+
+  # -Djdk.tracePinnedThreads: 가상 스레드가 캐리어 스레드에 고정(synchronized 내부 블로킹 등)되면 스택 출력
+  java -Djdk.tracePinnedThreads=short -jar "${JAR}" \
+    --server.port="${PORT}" --spring.profiles.active="${profiles}" \
+    > "${REPORT_DIR}/${mode}.log" 2>&1 &
+  SERVER_PID=$!
+
+  # 인증이 필요한 경로라도 응답 코드가 오면 기동 완료로 판단
+  for _ in $(seq 1 120); do
+    if [[ "$(curl -s -o /dev/null -w '%{http_code}' "${BASE_URL}/actuator/health")" != "000" ]]; then
+      break
+    fi
+    sleep 1
+  done
+
+  local token
+  token="$(curl -s -c - -X POST "${BASE_URL}/auth/test-login" | awk '$6 == "accessToken" { print $7 }')"
+  if [[ -z "${token}" ]]; then
+    echo "test login failed, see ${REPORT_DIR}/${mode}.log" >&2
+    exit 1
+  fi
+
+  hey -z "${WARMUP}" -c "${CONCURRENCY}" -H "Cookie: accessToken=${token}" "${BASE_URL}${TARGET_PATH}" > /dev/null
+  hey -z "${DURATION}" -c "${CONCURRENCY}" -H "Cookie: accessToken=${token}" "${BASE_URL}${TARGET_PATH}" \
+    > "${REPORT_DIR}/${mode}.txt"
+
+  stop_server
+}
+
+run_mode platform "$(profiles_for "")"
+run_mode virtual "$(profiles_for virtual-threads)"
+
+for mode in platform virtual; do
+  echo "-- ${mode}"
+  grep -E 'Requests/sec|Average|50% in|95% in|99% in' "${REPORT_DIR}/${mode}.txt"
+  grep -E '^\s*\[[0-9]+\]' "${REPORT_DIR}/${mode}.txt" | sed 's/^/  status /' || true
+done
+echo "-- pinned virtual threads: $(grep -c '<== monitors' "${REPORT_DIR}/virtual.log" || true)"
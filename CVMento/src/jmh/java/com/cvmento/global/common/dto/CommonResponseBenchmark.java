@@ -0,0 +1,37 @@
+package com.cvmento.global.common.dto;
+
+import com.cvmento.domain.member.dto.MemberInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+// 응답 본문 직렬화 비용 (Spring MVC와 같은 설정의 ObjectMapper 사용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommonResponseBenchmark {
+
+    private ObjectMapper objectMapper;
+    private CommonResponse<MemberInfo> success;
+    private CommonResponse<Void> error;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        success = CommonResponse.success(new MemberInfo(1L, "user@test.com", "일반 사용자", "https://via.placeholder.com/150"));
+        error = CommonResponse.error("ACCESS_TOKEN_EXPIRED", "Access Token이 만료되었습니다.", true);
+    }
+
+    @Benchmark
+    public byte[] serializeSuccess() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(success);
+    }
+
+    @Benchmark
+    public byte[] serializeError() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(error);
+    }
+}
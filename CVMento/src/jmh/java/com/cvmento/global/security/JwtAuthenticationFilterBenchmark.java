@@ -0,0 +1,103 @@
+package com.cvmento.global.security;
+
+import com.cvmento.domain.auth.enums.DegradedAuthPolicy;
+import com.cvmento.domain.auth.enums.SessionVerdict;
+import com.cvmento.domain.member.dto.MemberPrincipal;
+import com.cvmento.domain.member.enums.Role;
+import com.cvmento.domain.member.enums.UserStatus;
+import com.cvmento.domain.member.repository.MemberRepository;
+import com.cvmento.global.common.util.CookieUtil;
+import com.cvmento.global.config.MemberActivityProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+import static org.mockito.Mockito.when;
+
+// 인증된 요청 한 건의 필터 처리 비용 (Redis와 회원 저장소는 즉시 응답하는 목으로 대체)
+// 서명 검증, 세션 판정 조합, 회원 캐시 조회, SecurityContext 설정까지 포함하며 네트워크 지연은 제외
+// 목은 즉시 완료되므로 Redis 왕복이나 Redis/DB 호출 겹침 효과는 측정하지 않음 (JwtAuthenticationFilterRedisBenchmark 참고)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"false", "true"})
+    private boolean claimsCache;
+
+    private JwtAuthenticationFilter filter;
+    private Cookie[] cookies;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 1_800_000, 1_209_600_000,
+                new VerifiedTokenCache(meterRegistry, claimsCache, 50_000, DataSize.ofMegabytes(32)));
+
+        AsyncTokenService asyncTokenService = stub(AsyncTokenService.class);
+        when(asyncTokenService.checkSession(any())).thenReturn(CompletableFuture.completedFuture(SessionVerdict.VALID));
+        ResilientSessionChecker sessionChecker = new ResilientSessionChecker(asyncTokenService,
+                stub(AuthStateFallbackStore.class), stub(RevocationEpochStore.class), meterRegistry,
+                Duration.ofMillis(250), DegradedAuthPolicy.FAIL_CLOSED, 50, 20, 10, Duration.ofSeconds(5), 5);
+
+        MemberRepository memberRepository = stub(MemberRepository.class);
+        MemberPrincipal member = new MemberPrincipal(1L, "user@test.com", "일반 사용자", null, Role.USER, UserStatus.ACTIVE);
+        when(memberRepository.findPrincipalById(anyLong())).thenReturn(Optional.of(member));
+        MemberPrincipalCache memberPrincipalCache = new MemberPrincipalCache(memberRepository,
+                stub(StringRedisTemplate.class), stub(RedisMessageListenerContainer.class), meterRegistry,
+                10_000, Duration.ofMinutes(10), "member-invalidation");
+
+        CookieUtil cookieUtil = new CookieUtil("localhost", true, "Lax");
+        AuthObservations observations = new AuthObservations(ObservationRegistry.NOOP, meterRegistry);
+        MemberActivityBuffer memberActivityBuffer = new MemberActivityBuffer(new MemberActivityProperties(),
+                stub(JdbcTemplate.class), stub(TokenService.class), meterRegistry);
+        filter = new JwtAuthenticationFilter(jwtUtil, sessionChecker, memberPrincipalCache, cookieUtil, observations,
+                memberActivityBuffer);
+
+        String accessToken = jwtUtil.generateAccessToken("1", "user@test.com", JwtUtil.randomId());
+        cookies = new Cookie[]{new Cookie(CookieUtil.ACCESS_TOKEN_COOKIE_NAME, accessToken)};
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/resumes");
+        request.setCookies(cookies);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilterInternal(request, response, NO_OP_CHAIN);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    // 목이 호출 기록을 쌓으면 측정 중 힙과 GC 부담이 계속 커지므로 기록하지 않는 목 사용
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
@@ -0,0 +1,128 @@
+package com.cvmento.global.security;
+
+import com.cvmento.domain.auth.dto.TokenDto;
+import com.cvmento.domain.auth.enums.DegradedAuthPolicy;
+import com.cvmento.domain.member.dto.MemberPrincipal;
+import com.cvmento.domain.member.enums.Role;
+import com.cvmento.domain.member.enums.UserStatus;
+import com.cvmento.domain.member.repository.MemberRepository;
+import com.cvmento.global.common.util.CookieUtil;
+import com.cvmento.global.config.MemberActivityProperties;
+import com.cvmento.global.config.RedisTopologyProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// JwtAuthenticationFilterBenchmark와 같은 요청을 실제 Redis에 대해 처리 (세션 확인 왕복 지연 포함)
+// TEST_REDIS_HOST/TEST_REDIS_PORT의 서버 사용 (기본값 localhost:6379), 사용자 1의 세션 키를 덮어쓰므로 전용 서버만 지정
+// 회원 저장소는 목 (첫 요청 이후에는 회원 캐시에서 조회되어 DB를 거치지 않음)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterRedisBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"false", "true"})
+    private boolean claimsCache;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisMessageListenerContainer listenerContainer;
+    private JwtAuthenticationFilter filter;
+    private Cookie[] cookies;
+
+    @Setup
+    public void setUp() throws Exception {
+        String host = System.getenv().getOrDefault("TEST_REDIS_HOST", "localhost");
+        int port = Integer.parseInt(System.getenv().getOrDefault("TEST_REDIS_PORT", "6379"));
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuthObservations observations = new AuthObservations(ObservationRegistry.NOOP, meterRegistry);
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        ReactiveStringRedisTemplate reactiveTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+        AuthRedisKeys keys = new AuthRedisKeys(new RedisTopologyProperties(), "refresh-token:", "blacklist:",
+                "user-session:", "revocation-epoch:", "user-devices:", "refresh-result:");
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 1_800_000, 1_209_600_000,
+                new VerifiedTokenCache(meterRegistry, claimsCache, 50_000, DataSize.ofMegabytes(32)));
+
+        BlacklistBloomFilter blacklistBloomFilter = new BlacklistBloomFilter(redisTemplate, listenerContainer, meterRegistry,
+                keys, "token-blacklist", Duration.ofHours(6), 10_000, 0.01);
+        blacklistBloomFilter.seed();
+        RevocationEpochStore revocationEpochStore = new RevocationEpochStore(redisTemplate, reactiveTemplate, reactiveTemplate,
+                listenerContainer, meterRegistry, observations, keys, 1_209_600_000, 100_000, Duration.ofMinutes(1),
+                "revocation-epoch");
+        AuthStateFallbackStore fallbackStore = new AuthStateFallbackStore(listenerContainer, meterRegistry,
+                Duration.ofMinutes(10), 100_000, 100_000, "token-blacklist");
+        AsyncTokenService asyncTokenService = new AsyncTokenService(jwtUtil, reactiveTemplate, reactiveTemplate,
+                blacklistBloomFilter, revocationEpochStore, fallbackStore, observations, keys, false, 5);
+        ResilientSessionChecker sessionChecker = new ResilientSessionChecker(asyncTokenService, fallbackStore,
+                revocationEpochStore, meterRegistry, Duration.ofMillis(250), DegradedAuthPolicy.FAIL_CLOSED,
+                50, 20, 10, Duration.ofSeconds(5), 5);
+
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        MemberPrincipal member = new MemberPrincipal(1L, "user@test.com", "일반 사용자", null, Role.USER, UserStatus.ACTIVE);
+        when(memberRepository.findPrincipalById(anyLong())).thenReturn(Optional.of(member));
+        MemberPrincipalCache memberPrincipalCache = new MemberPrincipalCache(memberRepository, redisTemplate,
+                listenerContainer, meterRegistry, 10_000, Duration.ofMinutes(10), "member-invalidation");
+
+        MemberActivityBuffer memberActivityBuffer = new MemberActivityBuffer(new MemberActivityProperties(),
+                mock(JdbcTemplate.class), mock(TokenService.class), meterRegistry);
+        filter = new JwtAuthenticationFilter(jwtUtil, sessionChecker, memberPrincipalCache,
+                new CookieUtil("localhost", true, "Lax"), observations, memberActivityBuffer);
+
+        // 로그인과 같은 경로로 기기 세션을 저장하고 발급된 Access Token 사용
+        TokenDto tokens = asyncTokenService.issueTokens("1", "user@test.com", "benchmark").toCompletableFuture().get();
+        cookies = new Cookie[]{new Cookie(CookieUtil.ACCESS_TOKEN_COOKIE_NAME, tokens.accessToken())};
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        listenerContainer.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/resumes");
+        request.setCookies(cookies);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilterInternal(request, response, NO_OP_CHAIN);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
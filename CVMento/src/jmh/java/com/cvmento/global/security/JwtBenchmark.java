@@ -0,0 +1,75 @@
+package com.cvmento.global.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 토큰 발급/검증/클레임 추출 비용
+// loginTokens는 로그인 1회분(Access + Refresh 서명)이므로 스레드당 처리량이 코어당 초당 로그인 수에 해당
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+
+    // 검증 결과 캐시 사용 여부 (jwt.claims-cache.enabled)
+    @Param({"false", "true"})
+    private boolean claimsCache;
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new SimpleMeterRegistry(), claimsCache, 50_000, DataSize.ofMegabytes(32));
+        jwtUtil = new JwtUtil(SECRET, 1_800_000, 1_209_600_000, cache);
+        accessToken = jwtUtil.generateAccessToken("1", "user@test.com", JwtUtil.randomId());
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken("1", "user@test.com", "device");
+    }
+
+    @Benchmark
+    public IssuedToken issueAccessToken() {
+        return jwtUtil.issueAccessToken("1", "user@test.com", "device");
+    }
+
+    @Benchmark
+    public IssuedToken loginTokens() {
+        String deviceId = JwtUtil.randomId();
+        jwtUtil.issueAccessToken("1", "user@test.com", deviceId);
+        return jwtUtil.issueRefreshToken("1", "user@test.com", deviceId);
+    }
+
+    @Benchmark
+    public String randomId() {
+        return JwtUtil.randomId();
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verify() {
+        return jwtUtil.verify(accessToken);
+    }
+
+    @Benchmark
+    public String extractUserId() {
+        return jwtUtil.extractUserId(accessToken);
+    }
+
+    @Benchmark
+    public String extractJti() {
+        return jwtUtil.extractJti(accessToken);
+    }
+
+    @Benchmark
+    public Date extractExpiration() {
+        return jwtUtil.extractExpiration(accessToken);
+    }
+}
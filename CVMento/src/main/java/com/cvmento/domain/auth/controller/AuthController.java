@@ -1,14 +1,18 @@
 package com.cvmento.domain.auth.controller;
 
+import com.cvmento.domain.auth.dto.DeviceSessionDto;
 import com.cvmento.domain.auth.dto.response.AuthStatusResponse;
 import com.cvmento.domain.auth.dto.response.GoogleLoginGuideResponse;
 import com.cvmento.domain.auth.dto.response.TestLoginResponse;
 import com.cvmento.domain.auth.dto.response.TokenRefreshResponse;
 import com.cvmento.domain.auth.service.AuthService;
 import com.cvmento.domain.member.dto.MemberInfo;
+import com.cvmento.domain.member.dto.MemberPrincipal;
 import com.cvmento.domain.member.entity.Member;
 import com.cvmento.domain.member.enums.Role;
 import com.cvmento.global.common.dto.CommonResponse;
+import com.cvmento.global.exception.AuthErrorCode;
+import com.cvmento.global.exception.customException.AuthException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -20,6 +24,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/auth")
 @RequiredArgsConstructor
@@ -47,10 +53,9 @@ public class AuthController {
     @SecurityRequirement(name = "cookieAuth")
     @ApiResponse(responseCode = "200", description = "사용자 정보 조회 성공")
     @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
-    public ResponseEntity<CommonResponse<?>> getCurrentUser(@AuthenticationPrincipal Member member) {
+    public ResponseEntity<CommonResponse<MemberInfo>> getCurrentUser(@AuthenticationPrincipal MemberPrincipal member) {
         if (member == null) {
-            return ResponseEntity.status(401)
-                    .body(CommonResponse.error("UNAUTHORIZED", "인증되지 않은 사용자입니다."));
+            throw new AuthException(AuthErrorCode.UNAUTHORIZED);
         }
 
         return ResponseEntity.ok(CommonResponse.success(MemberInfo.from(member)));
@@ -61,45 +66,62 @@ public class AuthController {
     @ApiResponse(responseCode = "200", description = "토큰 갱신 성공")
     @ApiResponse(responseCode = "401", description = "유효하지 않은 Refresh Token")
     public ResponseEntity<CommonResponse<TokenRefreshResponse>> refreshToken(HttpServletRequest request, HttpServletResponse response) {
-        try {
-            authService.refreshAccessToken(request, response);
-            TokenRefreshResponse refreshResponse = TokenRefreshResponse.builder()
-                    .message("Token refreshed successfully")
-                    .build();
-
-            return ResponseEntity.ok(CommonResponse.success(refreshResponse));
-
-        } catch (IllegalArgumentException e) {
-            String message = e.getMessage();
-            String errorCode;
-
-            if (message.contains("not found")) {
-                errorCode = "NO_REFRESH_TOKEN";
-            } else if (message.contains("expired")) {
-                errorCode = "REFRESH_TOKEN_EXPIRED";
-            } else {
-                errorCode = "INVALID_REFRESH_TOKEN";
-            }
+        // 실패 시 AuthException이 발생하며 GlobalExceptionHandler가 인증 오류 응답으로 변환
+        authService.refreshAccessToken(request, response);
+        TokenRefreshResponse refreshResponse = TokenRefreshResponse.builder()
+                .message("Token refreshed successfully")
+                .build();
 
-            return ResponseEntity.status(401)
-                    .body(CommonResponse.error(errorCode, message, false));
-        }
+        return ResponseEntity.ok(CommonResponse.success(refreshResponse));
     }
 
     @PostMapping("/logout")
     @Operation(summary = "로그아웃", description = "로그아웃하고 모든 토큰을 무효화합니다.")
     @SecurityRequirement(name = "cookieAuth")
     @ApiResponse(responseCode = "200", description = "로그아웃 성공")
-    public ResponseEntity<CommonResponse<Void>> logout(@AuthenticationPrincipal Member member,
+    public ResponseEntity<CommonResponse<Void>> logout(@AuthenticationPrincipal MemberPrincipal member,
                                                        HttpServletRequest request,
                                                        HttpServletResponse response) {
         authService.logout(member, request, response);
         return ResponseEntity.ok(CommonResponse.success("로그아웃되었습니다."));
     }
 
+    @PostMapping("/logout/device")
+    @Operation(summary = "현재 기기에서 로그아웃", description = "현재 기기의 토큰만 무효화하고 다른 기기의 로그인은 유지합니다.")
+    @SecurityRequirement(name = "cookieAuth")
+    @ApiResponse(responseCode = "200", description = "로그아웃 성공")
+    public ResponseEntity<CommonResponse<Void>> logoutDevice(@AuthenticationPrincipal MemberPrincipal member,
+                                                             HttpServletRequest request,
+                                                             HttpServletResponse response) {
+        authService.logoutDevice(member, request, response);
+        return ResponseEntity.ok(CommonResponse.success("현재 기기에서 로그아웃되었습니다."));
+    }
+
+    @GetMapping("/sessions")
+    @Operation(summary = "로그인 기기 목록", description = "현재 로그인된 기기 목록을 최근 사용 순으로 조회합니다.")
+    @SecurityRequirement(name = "cookieAuth")
+    @ApiResponse(responseCode = "200", description = "기기 목록 조회 성공")
+    public ResponseEntity<CommonResponse<List<DeviceSessionDto>>> getSessions(@AuthenticationPrincipal MemberPrincipal member,
+                                                                              HttpServletRequest request) {
+        return ResponseEntity.ok(CommonResponse.success(authService.getSessions(member, request)));
+    }
+
+    @DeleteMapping("/sessions/{deviceId}")
+    @Operation(summary = "기기 로그아웃", description = "지정한 기기의 세션을 무효화합니다.")
+    @SecurityRequirement(name = "cookieAuth")
+    @ApiResponse(responseCode = "200", description = "기기 로그아웃 성공")
+    @ApiResponse(responseCode = "404", description = "존재하지 않는 기기 세션")
+    public ResponseEntity<CommonResponse<Void>> revokeSession(@AuthenticationPrincipal MemberPrincipal member,
+                                                              @PathVariable String deviceId) {
+        if (!authService.revokeSession(member, deviceId)) {
+            throw new AuthException(AuthErrorCode.SESSION_NOT_FOUND);
+        }
+        return ResponseEntity.ok(CommonResponse.success("기기에서 로그아웃되었습니다."));
+    }
+
     @GetMapping("/status")
     @Operation(summary = "인증 상태 확인", description = "현재 인증 상태를 확인합니다.")
-    public ResponseEntity<CommonResponse<AuthStatusResponse>> checkAuthStatus(@AuthenticationPrincipal Member member) {
+    public ResponseEntity<CommonResponse<AuthStatusResponse>> checkAuthStatus(@AuthenticationPrincipal MemberPrincipal member) {
         if (member != null && member.isActive()) {
             AuthStatusResponse statusResponse = AuthStatusResponse.builder()
                     .authenticated(true)
@@ -122,10 +144,11 @@ public class AuthController {
     public ResponseEntity<CommonResponse<TestLoginResponse>> testLogin(
             @RequestParam(defaultValue = "test@example.com") String email,
             @RequestParam(defaultValue = "Test User") String name,
+            HttpServletRequest request,
             HttpServletResponse response) {
 
         Member testMember = authService.createOrUpdateTestUser(email, name, Role.USER);
-        authService.generateTokensAndSetCookies(testMember, response);
+        authService.generateTokensAndSetCookies(testMember, request, response);
 
         TestLoginResponse loginResponse = TestLoginResponse.of(
                 "테스트 로그인이 완료되었습니다.",
@@ -139,27 +162,28 @@ public class AuthController {
     @PostMapping("/quick-login/user")
     @Operation(summary = "일반 사용자로 빠른 로그인")
     @ApiResponse(responseCode = "200", description = "테스트 로그인 성공")
-    public ResponseEntity<CommonResponse<TestLoginResponse>> quickLoginAsUser(HttpServletResponse response) {
-        return performQuickLogin("user@test.com", "일반 사용자", Role.USER, response);
+    public ResponseEntity<CommonResponse<TestLoginResponse>> quickLoginAsUser(HttpServletRequest request, HttpServletResponse response) {
+        return performQuickLogin("user@test.com", "일반 사용자", Role.USER, request, response);
     }
 
     @PostMapping("/quick-login/expert")
     @Operation(summary = "최상위 관리자로 빠른 로그인")
     @ApiResponse(responseCode = "200", description = "테스트 로그인 성공")
-    public ResponseEntity<CommonResponse<TestLoginResponse>> quickLoginAsExpert(HttpServletResponse response) {
-        return performQuickLogin("root@test.com", "최상위 관리자", Role.ROOT, response);
+    public ResponseEntity<CommonResponse<TestLoginResponse>> quickLoginAsExpert(HttpServletRequest request, HttpServletResponse response) {
+        return performQuickLogin("root@test.com", "최상위 관리자", Role.ROOT, request, response);
     }
 
     @PostMapping("/quick-login/admin")
     @Operation(summary = "관리자로 빠른 로그인")
     @ApiResponse(responseCode = "200", description = "테스트 로그인 성공")
-    public ResponseEntity<CommonResponse<TestLoginResponse>> quickLoginAsAdmin(HttpServletResponse response) {
-        return performQuickLogin("admin@test.com", "관리자", Role.ADMIN, response);
+    public ResponseEntity<CommonResponse<TestLoginResponse>> quickLoginAsAdmin(HttpServletRequest request, HttpServletResponse response) {
+        return performQuickLogin("admin@test.com", "관리자", Role.ADMIN, request, response);
     }
 
-    private ResponseEntity<CommonResponse<TestLoginResponse>> performQuickLogin(String email, String name, Role role, HttpServletResponse response) {
+    private ResponseEntity<CommonResponse<TestLoginResponse>> performQuickLogin(String email, String name, Role role,
+                                                                             HttpServletRequest request, HttpServletResponse response) {
         Member testMember = authService.createOrUpdateTestUser(email, name, role);
-        authService.generateTokensAndSetCookies(testMember, response);
+        authService.generateTokensAndSetCookies(testMember, request, response);
 
         TestLoginResponse loginResponse = TestLoginResponse.of(
                 name + "로 로그인되었습니다.",
@@ -0,0 +1,13 @@
+package com.cvmento.domain.auth.dto;
+
+import java.time.LocalDateTime;
+
+// 로그인된 기기 세션 정보
+public record DeviceSessionDto(
+        String deviceId,
+        String deviceName,
+        LocalDateTime createdAt,
+        LocalDateTime lastActivityAt,
+        boolean current
+) {
+}
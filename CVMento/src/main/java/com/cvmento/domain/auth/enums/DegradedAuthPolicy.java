@@ -0,0 +1,8 @@
+package com.cvmento.domain.auth.enums;
+
+// Redis 장애 시 로컬에 기록이 없는 세션의 처리 정책
+public enum DegradedAuthPolicy {
+    FAIL_OPEN,   // 서명과 만료만 확인하고 통과
+    FAIL_CLOSED  // 503으로 거부
+
+}
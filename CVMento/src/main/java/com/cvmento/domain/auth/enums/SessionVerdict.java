@@ -0,0 +1,10 @@
+package com.cvmento.domain.auth.enums;
+
+// Access Token 요청 시 Redis 기반 세션 검증 결과
+public enum SessionVerdict {
+    VALID,              // 블랙리스트에 없고 세션도 유효
+    TOKEN_BLACKLISTED,  // 로그아웃된 토큰
+    SESSION_INVALID,    // 사용자 세션이 존재하지 않음
+    UNAVAILABLE         // Redis 장애로 확인할 수 없고 로컬 기록도 없음 (fail-closed 정책)
+
+}
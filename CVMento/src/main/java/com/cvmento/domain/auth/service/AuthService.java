@@ -1,20 +1,28 @@
 package com.cvmento.domain.auth.service;
 
 import com.cvmento.domain.member.enums.Role;
+import com.cvmento.domain.auth.dto.DeviceSessionDto;
 import com.cvmento.domain.auth.dto.TokenDto;
+import com.cvmento.domain.member.dto.MemberPrincipal;
 import com.cvmento.domain.member.entity.Member;
 import com.cvmento.domain.member.repository.MemberRepository;
+import com.cvmento.global.common.util.AuthCookies;
 import com.cvmento.global.common.util.CookieUtil;
+import com.cvmento.global.exception.AuthErrorCode;
+import com.cvmento.global.exception.customException.AuthException;
 import com.cvmento.global.security.JwtUtil;
 import com.cvmento.global.security.TokenService;
+import com.cvmento.global.security.VerifiedToken;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -33,25 +41,28 @@ public class AuthService {
         Optional<String> refreshTokenOpt = cookieUtil.getRefreshTokenFromCookies(request);
 
         if (refreshTokenOpt.isEmpty()) {
-            throw new IllegalArgumentException("Refresh token not found");
+            throw new AuthException(AuthErrorCode.NO_REFRESH_TOKEN);
         }
 
-        String refreshToken = refreshTokenOpt.get();
+        // Refresh Token 서명 검증 및 클레임 파싱 (1회)
+        Optional<VerifiedToken> verifiedOpt = jwtUtil.verify(refreshTokenOpt.get());
 
         // Refresh Token 기본 검증
-        if (!jwtUtil.isValidToken(refreshToken)) {
+        if (verifiedOpt.isEmpty()) {
             cookieUtil.deleteAllAuthCookies(response);
-            throw new IllegalArgumentException("Invalid refresh token format");
+            throw new AuthException(AuthErrorCode.INVALID_REFRESH_TOKEN, "Invalid refresh token format");
         }
 
-        if (!jwtUtil.isRefreshToken(refreshToken)) {
+        VerifiedToken refreshToken = verifiedOpt.get();
+
+        if (!refreshToken.isRefreshToken()) {
             cookieUtil.deleteAllAuthCookies(response);
-            throw new IllegalArgumentException("Wrong token type - not a refresh token");
+            throw new AuthException(AuthErrorCode.INVALID_REFRESH_TOKEN, "Wrong token type - not a refresh token");
         }
 
-        if (jwtUtil.isTokenExpired(refreshToken)) {
+        if (refreshToken.isExpired()) {
             cookieUtil.deleteAllAuthCookies(response);
-            throw new IllegalArgumentException("Refresh token expired");
+            throw new AuthException(AuthErrorCode.REFRESH_TOKEN_EXPIRED);
         }
 
         try {
@@ -61,30 +72,72 @@ public class AuthService {
             cookieUtil.addAccessTokenCookie(response, tokenDto.accessToken(),
                     Duration.ofMillis(tokenService.getJwtUtil().getAccessTokenExpirationTime()));
 
-            log.info("Successfully refreshed access token for user ID: {}", jwtUtil.extractUserId(refreshToken));
+            // Refresh Token이 회전된 경우 함께 교체
+            if (!tokenDto.refreshToken().equals(refreshToken.token())) {
+                cookieUtil.addRefreshTokenCookie(response, tokenDto.refreshToken(),
+                        Duration.ofMillis(tokenService.getJwtUtil().getRefreshTokenExpirationTime()));
+            }
+
+            log.info("Successfully refreshed access token for user ID: {}", refreshToken.subject());
             return tokenDto;
 
         } catch (IllegalArgumentException e) {
             // TokenService에서 발생한 예외 (Redis 검증 실패 등)
             cookieUtil.deleteAllAuthCookies(response);
             log.debug("Token refresh failed: {}", e.getMessage());
-            throw new IllegalArgumentException("Refresh token validation failed");
+            throw new AuthException(AuthErrorCode.INVALID_REFRESH_TOKEN, "Refresh token validation failed");
+        } catch (DataAccessException e) {
+            // Redis 타임아웃/연결 실패 - 토큰 문제가 아니므로 쿠키는 유지하고 재시도 가능한 오류로 응답
+            log.warn("Token refresh unavailable for user ID: {} ({})", refreshToken.subject(), e.toString());
+            throw new AuthException(AuthErrorCode.AUTH_UNAVAILABLE);
         }
     }
 
     @Transactional
-    public void logout(Member member, HttpServletRequest request, HttpServletResponse response) {
-        String memberId = member.getMemberId().toString();
-        Optional<String> accessToken = cookieUtil.getAccessTokenFromCookies(request);
-        Optional<String> refreshToken = cookieUtil.getRefreshTokenFromCookies(request);
-
-        // 토큰 무효화 (블랙리스트 추가 및 Redis에서 삭제)
-        tokenService.logout(memberId, accessToken.orElse(null), refreshToken.orElse(null));
+    public void logout(MemberPrincipal member, HttpServletRequest request, HttpServletResponse response) {
+        // 모든 기기의 토큰 폐기 (제시된 토큰의 블랙리스트 등록, 폐기 기준 시각 갱신 및 세션 삭제)
+        AuthCookies cookies = cookieUtil.readAuthCookies(request);
+        tokenService.logout(member.memberId().toString(), verify(cookies.accessToken()), verify(cookies.refreshToken()));
 
         // 쿠키 삭제
         cookieUtil.deleteAllAuthCookies(response);
 
-        log.info("User logged out: {} (ID: {})", member.getEmail(), member.getMemberId());
+        log.info("User logged out: {} (ID: {})", member.email(), member.memberId());
+    }
+
+    @Transactional
+    public void logoutDevice(MemberPrincipal member, HttpServletRequest request, HttpServletResponse response) {
+        // 현재 기기의 세션만 폐기 (다른 기기의 세션은 유지)
+        AuthCookies cookies = cookieUtil.readAuthCookies(request);
+        tokenService.logoutDevice(verify(cookies.accessToken()), verify(cookies.refreshToken()));
+
+        cookieUtil.deleteAllAuthCookies(response);
+
+        log.info("User logged out from current device: {} (ID: {})", member.email(), member.memberId());
+    }
+
+    public List<DeviceSessionDto> getSessions(MemberPrincipal member, HttpServletRequest request) {
+        String currentDeviceId = currentToken(request).map(VerifiedToken::deviceId).orElse(null);
+        return tokenService.listSessions(member.memberId().toString(), currentDeviceId);
+    }
+
+    public boolean revokeSession(MemberPrincipal member, String deviceId) {
+        boolean revoked = tokenService.revokeSession(member.memberId().toString(), deviceId);
+        if (revoked) {
+            log.info("Revoked device session {} for user ID: {}", deviceId, member.memberId());
+        }
+        return revoked;
+    }
+
+    private VerifiedToken verify(String token) {
+        return token == null ? null : jwtUtil.verify(token).orElse(null);
+    }
+
+    // 요청의 Access Token (없으면 Refresh Token)으로 현재 기기 식별
+    private Optional<VerifiedToken> currentToken(HttpServletRequest request) {
+        AuthCookies cookies = cookieUtil.readAuthCookies(request);
+        String token = cookies.hasAccessToken() ? cookies.accessToken() : cookies.refreshToken();
+        return token == null ? Optional.empty() : jwtUtil.verify(token);
     }
 
     @Transactional
@@ -118,8 +171,9 @@ public class AuthService {
         return testMember;
     }
 
-    public TokenDto generateTokensAndSetCookies(Member member, HttpServletResponse response) {
-        TokenDto tokenDto = tokenService.generateTokens(member.getMemberId().toString(), member.getEmail());
+    public TokenDto generateTokensAndSetCookies(Member member, HttpServletRequest request, HttpServletResponse response) {
+        TokenDto tokenDto = tokenService.generateTokens(member.getMemberId().toString(), member.getEmail(),
+                request.getHeader("User-Agent"));
 
         // HttpOnly 쿠키로 토큰 설정
         cookieUtil.addAccessTokenCookie(response, tokenDto.accessToken(),
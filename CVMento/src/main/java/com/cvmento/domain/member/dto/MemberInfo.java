@@ -16,4 +16,13 @@ public record MemberInfo(
                 member.getPicture()
         );
     }
+
+    public static MemberInfo from(MemberPrincipal principal) {
+        return new MemberInfo(
+                principal.memberId(),
+                principal.email(),
+                principal.name(),
+                principal.picture()
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.cvmento.domain.member.dto;
+
+import com.cvmento.domain.member.enums.Role;
+import com.cvmento.domain.member.enums.UserStatus;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+// SecurityContext에 저장되는 인증 사용자 정보 (JPA 엔티티 대신 필요한 컬럼만 조회한 불변 객체)
+// 컨트롤러에서는 @AuthenticationPrincipal MemberPrincipal 로 주입받음
+public record MemberPrincipal(
+        Long memberId,
+        String email,
+        String name,
+        String picture,
+        Role role,
+        UserStatus status
+) {
+    public boolean isActive() {
+        return status == UserStatus.ACTIVE;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return role.getAuthorities();
+    }
+}
@@ -5,6 +5,7 @@ import com.cvmento.domain.member.enums.Role;
 import com.cvmento.domain.member.enums.UserStatus;
 import com.cvmento.domain.resume.entity.Resume;
 import com.cvmento.global.common.entity.BaseTimeEntity;
+import com.cvmento.global.security.MemberPrincipalInvalidationListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -15,6 +16,7 @@ import java.util.List;
 @Entity
 @Getter
 @Table(name = "members")
+@EntityListeners(MemberPrincipalInvalidationListener.class)
 public class Member extends BaseTimeEntity {
 
     @Id
@@ -45,6 +47,10 @@ public class Member extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private UserStatus status;
 
+    // 인증 캐시 무효화가 필요한 변경(상태/권한/프로필)이 있었는지 여부
+    @Transient
+    private boolean principalChanged;
+
     protected Member() {}
 
     public Member(String googleId, String email, String name, String picture) {
@@ -58,10 +64,12 @@ public class Member extends BaseTimeEntity {
 
     public void deactivate() {
         this.status = UserStatus.INACTIVE;
+        this.principalChanged = true;
     }
 
     public void activate() {
         this.status = UserStatus.ACTIVE;
+        this.principalChanged = true;
     }
 
     public boolean isActive() {
@@ -71,10 +79,16 @@ public class Member extends BaseTimeEntity {
     public void updateProfile(String name, String picture) {
         this.name = name;
         this.picture = picture;
+        this.principalChanged = true;
     }
 
     public void changeRole(Role role) {
         this.role = role;
+        this.principalChanged = true;
+    }
+
+    public void clearPrincipalChanged() {
+        this.principalChanged = false;
     }
 
     public void updateLastLoginAt(LocalDateTime time) {
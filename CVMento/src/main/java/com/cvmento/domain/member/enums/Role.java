@@ -1,6 +1,7 @@
 package com.cvmento.domain.member.enums;
 
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.List;
 
@@ -9,7 +10,10 @@ public enum Role {
     ADMIN, // 관리자
     ROOT; // 최고 관리자
 
+    // 요청마다 새로 만들지 않도록 권한 목록을 역할별로 한 번만 생성 (불변 리스트)
+    private final List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + name()));
+
     public List<GrantedAuthority> getAuthorities() {
-        return List.of(new org.springframework.security.core.authority.SimpleGrantedAuthority("ROLE_" + this.name()));
+        return authorities;
     }
 }
@@ -1,5 +1,6 @@
 package com.cvmento.domain.member.repository;
 
+import com.cvmento.domain.member.dto.MemberPrincipal;
 import com.cvmento.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -15,6 +16,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByEmail(String email);
 
+    // 인증용 조회 - 엔티티 대신 필요한 컬럼만 조회 (영속성 컨텍스트에 올리지 않음)
+    @Query("SELECT new com.cvmento.domain.member.dto.MemberPrincipal(m.memberId, m.email, m.name, m.picture, m.role, m.status) " +
+            "FROM Member m WHERE m.memberId = :memberId")
+    Optional<MemberPrincipal> findPrincipalById(@Param("memberId") Long memberId);
+
     @Query("SELECT m FROM Member m WHERE m.googleId = :googleId AND m.status = 'ACTIVE'")
     Optional<Member> findActiveByGoogleId(@Param("googleId") String googleId);
 
@@ -24,4 +30,4 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByEmail(String email);
 
     boolean existsByGoogleId(String googleId);
-}
\ No newline at end of file
+}
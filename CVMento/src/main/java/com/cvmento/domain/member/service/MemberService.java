@@ -0,0 +1,66 @@
+package com.cvmento.domain.member.service;
+
+import com.cvmento.global.security.MemberPrincipalCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class MemberService {
+
+    // OAuth2 로그인 시 조회 없이 한 문장으로 가입/프로필 갱신/재활성화 처리 (MySQL 전용)
+    // members의 유니크 키가 PK 외에 google_id 하나뿐이라는 전제 - 다른 유니크 키(예: email)가 추가되면
+    // 그 키의 충돌도 갱신으로 처리되어 다른 회원 행이 바뀔 수 있으므로 이 문장을 함께 수정해야 함
+    // 기존 회원이면 LAST_INSERT_ID(member_id)로 해당 회원 ID가 생성 키로 반환됨
+    private static final String UPSERT_ON_LOGIN =
+            "INSERT INTO members (google_id, email, name, profile_img, last_login_at, role, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, 'USER', 'ACTIVE', ?, ?) " +
+            "ON DUPLICATE KEY UPDATE member_id = LAST_INSERT_ID(member_id), " +
+            "name = ?, profile_img = ?, last_login_at = ?, status = 'ACTIVE', updated_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MemberPrincipalCache memberPrincipalCache;
+
+    // 구글 로그인 회원 가입 또는 프로필/로그인 시간 갱신 및 재활성화 후 회원 ID 반환
+    // 회원 ID는 별도의 SELECT LAST_INSERT_ID() 없이 같은 왕복의 생성 키(getGeneratedKeys)로 받음
+    @Transactional
+    public Long upsertGoogleMember(String googleId, String email, String name, String picture) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPSERT_ON_LOGIN, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, googleId);
+            ps.setString(2, email);
+            ps.setString(3, name);
+            ps.setString(4, picture);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+            ps.setString(8, name);
+            ps.setString(9, picture);
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+            return ps;
+        }, keyHolder);
+        // 갱신으로 처리되면 영향받은 행 수가 2라 드라이버가 키를 2개 반환하므로 첫 번째 키만 사용
+        Long memberId = ((Number) keyHolder.getKeyList().get(0).values().iterator().next()).longValue();
+
+        // JDBC로 직접 갱신하므로 엔티티 리스너를 거치지 않아 인증 캐시 무효화를 직접 수행 (커밋 후 전파)
+        memberPrincipalCache.invalidate(memberId);
+
+        log.debug("Upserted member on login: {} (ID: {})", email, memberId);
+        return memberId;
+    }
+}
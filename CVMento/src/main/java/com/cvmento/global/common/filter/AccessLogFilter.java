@@ -0,0 +1,115 @@
+package com.cvmento.global.common.filter;
+
+import com.cvmento.global.exception.AuthErrorCode;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// 요청마다 한 줄 접근 로그 출력 (지연 시간/요청 수 메트릭은 Actuator의 http.server.requests 사용, MetricsConfig 참고)
+// 인증 필터에서 거부된 요청까지 포함하도록 Spring Security 필터 체인보다 먼저 실행
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    // 컨트롤러에 도달하지 않은 요청 (인증 거부, 정적 리소스 없음 등)
+    private static final String ROUTE_NOT_FOUND = "NOT_FOUND";
+    private static final String ROUTE_UNMATCHED = "UNMATCHED";
+
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS");
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!accessLog.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean async = false;
+        boolean failed = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // SSE 등 비동기 요청은 응답이 끝나는 시점에 기록
+                async = true;
+                request.getAsyncContext().addListener(new CompletionListener(request, response, start));
+            }
+        } catch (ServletException | IOException | RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
+            if (!async) {
+                log(request, response, start, failed);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, long start, boolean failed) {
+        long elapsedNanos = System.nanoTime() - start;
+
+        // 처리되지 않은 예외는 이후 컨테이너가 500으로 응답하지만 이 시점의 상태 코드는 아직 설정 전일 수 있음
+        int status = failed && response.getStatus() < 400 ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+        Object errorCode = request.getAttribute(AuthErrorCode.REQUEST_ATTRIBUTE);
+        accessLog.info("method={} route={} uri={} status={} duration_ms={} error_code={}",
+                request.getMethod(), route(request, status), request.getRequestURI(), status,
+                elapsedNanos / 1_000_000.0,
+                errorCode != null ? errorCode : "-");
+    }
+
+    // DispatcherServlet이 기록한 매핑 패턴 (예: /api/resumes/{resumeId})
+    private static String route(HttpServletRequest request, int status) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        return status == HttpServletResponse.SC_NOT_FOUND ? ROUTE_NOT_FOUND : ROUTE_UNMATCHED;
+    }
+
+    private final class CompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long start;
+
+        private CompletionListener(HttpServletRequest request, HttpServletResponse response, long start) {
+            this.request = request;
+            this.response = response;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            log(request, response, start, false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
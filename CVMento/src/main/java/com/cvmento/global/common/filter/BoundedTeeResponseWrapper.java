@@ -0,0 +1,145 @@
+package com.cvmento.global.common.filter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+// 응답 본문을 클라이언트로 바로 흘려보내면서 앞부분만 로깅용으로 복사
+// ContentCachingResponseWrapper와 달리 전체 본문을 힙에 보관하지 않고, 응답 전송도 지연시키지 않음
+final class BoundedTeeResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int limit;
+    private final ByteArrayOutputStream captured;
+    private long totalBytes;
+
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    BoundedTeeResponseWrapper(HttpServletResponse response, int limit) {
+        super(response);
+        this.limit = limit;
+        this.captured = new ByteArrayOutputStream(Math.min(limit, 512));
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called on this response");
+        }
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (outputStream != null) {
+            throw new IllegalStateException("getOutputStream() has already been called on this response");
+        }
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(new TeeOutputStream(super.getOutputStream()),
+                    getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    // 에러 페이지 등으로 응답을 다시 쓰는 경우 이전 본문이 로그에 섞이지 않도록 복사본도 비움
+    @Override
+    public void reset() {
+        super.reset();
+        clearCapture();
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        clearCapture();
+    }
+
+    // 필터 체인 종료 후 Writer에 남은 내용을 내보냄
+    void finish() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    byte[] capturedBytes() {
+        return captured.toByteArray();
+    }
+
+    long totalBytes() {
+        return totalBytes;
+    }
+
+    private void clearCapture() {
+        captured.reset();
+        totalBytes = 0;
+    }
+
+    private void capture(byte[] bytes, int offset, int length) {
+        totalBytes += length;
+        int remaining = limit - captured.size();
+        if (remaining > 0) {
+            captured.write(bytes, offset, Math.min(remaining, length));
+        }
+    }
+
+    private final class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private TeeOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            totalBytes++;
+            if (captured.size() < limit) {
+                captured.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
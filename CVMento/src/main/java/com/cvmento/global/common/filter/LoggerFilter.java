@@ -1,59 +1,147 @@
 package com.cvmento.global.common.filter;
 
+import com.cvmento.global.config.HttpLoggingProperties;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+// 요청/응답 본문 로깅 (샘플링, 크기 제한, Content-Type 허용 목록, 토큰 마스킹 적용)
+// 응답은 전체를 버퍼링하지 않고 앞부분만 복사하며, SSE/대용량 내려받기 경로는 감싸지 않음
+// 로그 출력은 logback-spring.xml의 비동기 appender가 담당하므로 요청 스레드를 막지 않음
 @Slf4j
 @Component  // 자동 등록되므로 FilterRegistrationBean 불필요
 public class LoggerFilter extends OncePerRequestFilter {
 
+    private static final String REDACTED = "[REDACTED]";
+    // 쿠키/본문 어디에 있든 JWT 형태의 값은 가림
+    private static final Pattern JWT_PATTERN = Pattern.compile("eyJ[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]*");
+
+    private final HttpLoggingProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Pattern redactedFieldPattern;
+
+    public LoggerFilter(HttpLoggingProperties properties) {
+        this.properties = properties;
+        this.redactedFieldPattern = redactedFieldPattern(properties.getRedactedFields());
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        // 요청과 응답을 캐싱 래퍼로 감쌈
-        var req = new ContentCachingRequestWrapper(request);
-        var res = new ContentCachingResponseWrapper(response);
-
-        // 실제 필터 체인 실행
-        filterChain.doFilter(req, res);
-
-        // 로그 출력 정보
-        String method = req.getMethod();
-        String uri = req.getRequestURI();
-        int status = res.getStatus();
-
-        String reqBody = new String(req.getContentAsByteArray(), StandardCharsets.UTF_8).trim();
-        String resBody = new String(res.getContentAsByteArray(), StandardCharsets.UTF_8).trim();
-
-        log.info(
-                "\n=================  [REQUEST] =================\n" +
-                        "▶ Method : {}\n" +
-                        "▶ URI    : {}\n" +
-                        "▶ Body   : {}\n" +
-                        "==============================================",
-                method, uri, reqBody.isEmpty() ? "(no body)" : reqBody
-        );
-
-        log.info(
-                "\n=================  [RESPONSE] ================\n" +
-                        "◀ Status : {}\n" +
-                        "◀ Body   : {}\n" +
-                        "==============================================",
-                status, resBody.isEmpty() ? "(no body)" : resBody
-        );
-
-        // response body를 실제로 클라이언트에 복사
-        res.copyBodyToResponse();
+        if (!properties.isEnabled() || !log.isInfoEnabled() || !isSampled(request.getRequestURI())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        int limit = (int) Math.min(Integer.MAX_VALUE, properties.getMaxBodySize().toBytes());
+        boolean logRequestBody = isLoggableContentType(request.getContentType());
+        HttpServletRequest req = logRequestBody ? new ContentCachingRequestWrapper(request, limit) : request;
+        BoundedTeeResponseWrapper res = isStreaming(request) ? null : new BoundedTeeResponseWrapper(response, limit);
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(req, res != null ? res : response);
+        } finally {
+            if (res != null) {
+                res.finish();
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            String reqBody = logRequestBody
+                    ? describeBody(((ContentCachingRequestWrapper) req).getContentAsByteArray(), request.getContentLengthLong())
+                    : skipped(request.getContentType(), request.getContentLengthLong());
+            String resBody = res == null
+                    ? "(streaming)"
+                    : isLoggableContentType(response.getContentType())
+                    ? describeBody(res.capturedBytes(), res.totalBytes())
+                    : skipped(response.getContentType(), res.totalBytes());
+
+            log.info("{} {} -> {} ({} ms) | req: {} | res: {}",
+                    request.getMethod(), request.getRequestURI(), response.getStatus(), elapsedMillis, reqBody, resBody);
+        }
+    }
+
+    private boolean isSampled(String path) {
+        double rate = properties.getDefaultSampleRate();
+        for (Map.Entry<String, Double> entry : properties.getSampleRates().entrySet()) {
+            if (pathMatcher.match(entry.getKey(), path)) {
+                rate = entry.getValue();
+                break;
+            }
+        }
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private boolean isStreaming(HttpServletRequest request) {
+        String accept = request.getHeader("Accept");
+        if (accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE)) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        for (String pattern : properties.getStreamingPaths()) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isLoggableContentType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        for (String allowed : properties.getBodyContentTypes()) {
+            if (contentType.regionMatches(true, 0, allowed, 0, allowed.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String describeBody(byte[] captured, long totalBytes) {
+        if (captured.length == 0) {
+            return "(no body)";
+        }
+        String body = redact(new String(captured, StandardCharsets.UTF_8).trim());
+        if (totalBytes > captured.length) {
+            return body + "... (truncated, " + totalBytes + " bytes)";
+        }
+        return body;
+    }
+
+    private static String skipped(String contentType, long length) {
+        if (contentType == null && length <= 0) {
+            return "(no body)";
+        }
+        return "(" + contentType + ", " + Math.max(length, 0) + " bytes)";
+    }
+
+    private String redact(String body) {
+        String redacted = redactedFieldPattern == null ? body : redactedFieldPattern.matcher(body).replaceAll("\"$1\":\"" + REDACTED + "\"");
+        return JWT_PATTERN.matcher(redacted).replaceAll(REDACTED);
+    }
+
+    private static Pattern redactedFieldPattern(List<String> fields) {
+        if (fields.isEmpty()) {
+            return null;
+        }
+        String names = fields.stream().map(Pattern::quote).collect(Collectors.joining("|"));
+        return Pattern.compile("\"(" + names + ")\"\\s*:\\s*\"(?:[^\"\\\\]|\\\\.)*\"");
     }
 }
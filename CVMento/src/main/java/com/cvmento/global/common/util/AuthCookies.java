@@ -0,0 +1,17 @@
+package com.cvmento.global.common.util;
+
+// 요청의 인증 쿠키 두 개를 한 번의 순회로 읽은 결과 (없는 쿠키는 null)
+public record AuthCookies(
+        String accessToken,
+        String refreshToken
+) {
+    static final AuthCookies EMPTY = new AuthCookies(null, null);
+
+    public boolean hasAccessToken() {
+        return accessToken != null;
+    }
+
+    public boolean hasRefreshToken() {
+        return refreshToken != null;
+    }
+}
@@ -7,7 +7,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.util.Arrays;
 import java.util.Optional;
 
 @Component
@@ -16,85 +15,89 @@ public class CookieUtil {
     public static final String ACCESS_TOKEN_COOKIE_NAME = "accessToken";
     public static final String REFRESH_TOKEN_COOKIE_NAME = "refreshToken";
 
-    private final String domain;
-    private final boolean secure;
-    private final String sameSite;
+    private static final String SET_COOKIE = "Set-Cookie";
+
+    // Set-Cookie 헤더에서 설정값으로 결정되는 부분은 기동 시 한 번만 만들어 둠
+    // 형식: <name>=<value>; Path=/; Domain=<domain>; Max-Age=<seconds>; HttpOnly; SameSite=<sameSite>[; Secure]
+    private final String attributesBeforeMaxAge;
+    private final String attributesAfterMaxAge;
+    private final String accessTokenDeletionHeader;
+    private final String refreshTokenDeletionHeader;
 
     public CookieUtil(@Value("${cookie.domain}") String domain,
                       @Value("${cookie.secure}") boolean secure,
                       @Value("${cookie.same-site}") String sameSite) {
-        this.domain = domain;
-        this.secure = secure;
-        this.sameSite = sameSite;
+        this.attributesBeforeMaxAge = "; Path=/; Domain=" + domain + "; Max-Age=";
+        this.attributesAfterMaxAge = "; HttpOnly; SameSite=" + sameSite + (secure ? "; Secure" : "");
+        this.accessTokenDeletionHeader = cookieHeader(ACCESS_TOKEN_COOKIE_NAME, "", 0);
+        this.refreshTokenDeletionHeader = cookieHeader(REFRESH_TOKEN_COOKIE_NAME, "", 0);
     }
 
     public void addAccessTokenCookie(HttpServletResponse response, String token, Duration maxAge) {
-        addCookie(response, ACCESS_TOKEN_COOKIE_NAME, token, maxAge);
+        response.addHeader(SET_COOKIE, cookieHeader(ACCESS_TOKEN_COOKIE_NAME, token, maxAge.getSeconds()));
     }
 
     public void addRefreshTokenCookie(HttpServletResponse response, String token, Duration maxAge) {
-        addCookie(response, REFRESH_TOKEN_COOKIE_NAME, token, maxAge);
+        response.addHeader(SET_COOKIE, cookieHeader(REFRESH_TOKEN_COOKIE_NAME, token, maxAge.getSeconds()));
     }
 
-    private void addCookie(HttpServletResponse response, String name, String value, Duration maxAge) {
-        Cookie cookie = new Cookie(name, value);
-        cookie.setHttpOnly(true);
-        cookie.setSecure(secure);
-        cookie.setPath("/");
-        cookie.setDomain(domain);
-        cookie.setMaxAge((int) maxAge.getSeconds());
+    // SameSite 속성 설정을 위해 Cookie 객체 대신 Set-Cookie 헤더를 직접 생성
+    private String cookieHeader(String name, String value, long maxAgeSeconds) {
+        return name + "=" + value + attributesBeforeMaxAge + maxAgeSeconds + attributesAfterMaxAge;
+    }
 
-        // SameSite 속성 설정을 위해 Set-Cookie 헤더 직접 설정
-        String cookieHeader = String.format("%s=%s; Path=/; Domain=%s; Max-Age=%d; HttpOnly; SameSite=%s%s",
-                name, value, domain, maxAge.getSeconds(), sameSite, secure ? "; Secure" : "");
+    // 인증 쿠키 두 개를 한 번의 순회로 읽음 (스트림/Optional 할당 없음)
+    public AuthCookies readAuthCookies(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return AuthCookies.EMPTY;
+        }
 
-        response.addHeader("Set-Cookie", cookieHeader);
+        String accessToken = null;
+        String refreshToken = null;
+        for (Cookie cookie : cookies) {
+            String name = cookie.getName();
+            if (accessToken == null && ACCESS_TOKEN_COOKIE_NAME.equals(name)) {
+                accessToken = cookie.getValue();
+            } else if (refreshToken == null && REFRESH_TOKEN_COOKIE_NAME.equals(name)) {
+                refreshToken = cookie.getValue();
+            }
+        }
+        return accessToken == null && refreshToken == null ? AuthCookies.EMPTY : new AuthCookies(accessToken, refreshToken);
     }
 
     public Optional<String> getAccessTokenFromCookies(HttpServletRequest request) {
-        return getCookieValue(request, ACCESS_TOKEN_COOKIE_NAME);
+        return Optional.ofNullable(getCookieValue(request, ACCESS_TOKEN_COOKIE_NAME));
     }
 
     public Optional<String> getRefreshTokenFromCookies(HttpServletRequest request) {
-        return getCookieValue(request, REFRESH_TOKEN_COOKIE_NAME);
+        return Optional.ofNullable(getCookieValue(request, REFRESH_TOKEN_COOKIE_NAME));
     }
 
-    private Optional<String> getCookieValue(HttpServletRequest request, String cookieName) {
-        if (request.getCookies() == null) {
-            return Optional.empty();
+    private String getCookieValue(HttpServletRequest request, String cookieName) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
         }
 
-        return Arrays.stream(request.getCookies())
-                .filter(cookie -> cookieName.equals(cookie.getName()))
-                .map(Cookie::getValue)
-                .findFirst();
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
     }
 
     public void deleteAccessTokenCookie(HttpServletResponse response) {
-        deleteCookie(response, ACCESS_TOKEN_COOKIE_NAME);
+        response.addHeader(SET_COOKIE, accessTokenDeletionHeader);
     }
 
     public void deleteRefreshTokenCookie(HttpServletResponse response) {
-        deleteCookie(response, REFRESH_TOKEN_COOKIE_NAME);
-    }
-
-    private void deleteCookie(HttpServletResponse response, String cookieName) {
-        Cookie cookie = new Cookie(cookieName, "");
-        cookie.setHttpOnly(true);
-        cookie.setSecure(secure);
-        cookie.setPath("/");
-        cookie.setDomain(domain);
-        cookie.setMaxAge(0);
-
-        // SameSite 속성 설정을 위해 Set-Cookie 헤더 직접 설정
-        String cookieHeader = String.format("%s=; Path=/; Domain=%s; Max-Age=0; HttpOnly; SameSite=%s%s",
-                cookieName, domain, sameSite, secure ? "; Secure" : "");
-
-        response.addHeader("Set-Cookie", cookieHeader);
+        response.addHeader(SET_COOKIE, refreshTokenDeletionHeader);
     }
 
     public void deleteAllAuthCookies(HttpServletResponse response) {
         deleteAccessTokenCookie(response);
         deleteRefreshTokenCookie(response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package com.cvmento.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// 실행 모드는 spring.threads.virtual.enabled 로 전환 (Java 21 이상, virtual-threads 프로필로 활성화)
+// true: Tomcat 요청 처리와 @Async 작업(applicationTaskExecutor)이 가상 스레드에서 실행
+// false: 기존 플랫폼 스레드 풀(server.tomcat.threads.*, spring.task.execution.pool.*) 사용
+// 두 모드의 처리량/지연 시간 비교는 scripts/virtual-threads-compare.sh
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
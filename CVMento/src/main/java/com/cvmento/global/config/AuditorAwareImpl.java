@@ -1,6 +1,6 @@
 package com.cvmento.global.config;
 
-import com.cvmento.domain.member.entity.Member;
+import com.cvmento.domain.member.dto.MemberPrincipal;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.lang.NonNull;
 import org.springframework.security.core.Authentication;
@@ -18,11 +18,11 @@ public class AuditorAwareImpl implements AuditorAware<String> {
             return Optional.of("system"); // 인증되지 않은 경우 기본값
         }
 
-        // JWT 인증의 경우 Principal이 Member 객체
+        // JWT 인증의 경우 Principal이 MemberPrincipal 객체
         Object principal = authentication.getPrincipal();
 
-        if (principal instanceof Member member) {
-            return Optional.of(member.getMemberId().toString());
+        if (principal instanceof MemberPrincipal member) {
+            return Optional.of(member.memberId().toString());
         }
 
         // OAuth2 로그인 중인 경우나 기타 경우
@@ -0,0 +1,47 @@
+package com.cvmento.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// LoggerFilter의 요청/응답 본문 로깅 설정
+@Component
+@ConfigurationProperties(prefix = "app.http-logging")
+@Getter
+@Setter
+public class HttpLoggingProperties {
+
+    private boolean enabled = true;
+
+    // 경로 패턴(Ant)별 샘플링 비율 (0.0 ~ 1.0), 먼저 선언된 패턴이 우선이며 일치하는 패턴이 없으면 기본 비율 적용
+    private double defaultSampleRate = 1.0;
+    private Map<String, Double> sampleRates = new LinkedHashMap<>();
+
+    // 본문은 이 크기까지만 보관하고 나머지는 잘라서 기록
+    private DataSize maxBodySize = DataSize.ofKilobytes(2);
+
+    // 본문을 기록할 Content-Type (그 외에는 크기만 기록)
+    private List<String> bodyContentTypes = new ArrayList<>(List.of(
+            "application/json",
+            "application/x-www-form-urlencoded",
+            "text/plain"));
+
+    // 응답을 감싸지 않는 스트리밍/대용량 경로 (SSE는 Accept 헤더로도 판별)
+    private List<String> streamingPaths = new ArrayList<>(List.of(
+            "/**/stream/**",
+            "/**/export/**",
+            "/**/download/**"));
+
+    // 본문에서 값을 가릴 JSON 필드 이름
+    private List<String> redactedFields = new ArrayList<>(List.of(
+            "accessToken",
+            "refreshToken",
+            "password"));
+}
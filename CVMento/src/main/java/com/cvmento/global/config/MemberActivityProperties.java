@@ -0,0 +1,33 @@
+package com.cvmento.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 회원 활동 시각(members.last_login_at, 세션 Hash의 기기별 마지막 활동 시각) 지연 일괄 기록 설정
+@Component
+@ConfigurationProperties(prefix = "app.member-activity")
+@Getter
+@Setter
+public class MemberActivityProperties {
+
+    private boolean enabled = true;
+
+    // 모아둔 활동 시각을 DB/Redis에 반영하는 주기
+    private Duration flushInterval = Duration.ofSeconds(30);
+
+    // 같은 기기의 활동은 이 시간 동안 한 번만 기록 (기록된 값은 최대 max-staleness + flush-interval 만큼 실제보다 이전일 수 있음)
+    private Duration maxStaleness = Duration.ofMinutes(5);
+
+    // JDBC 배치 한 번에 보내는 행 수
+    private int batchSize = 500;
+
+    // 메모리 보호를 위해 반영 대기 중인 기기 세션 수가 이 값을 넘으면 새 활동은 버림
+    private int maxPending = 100_000;
+
+    // 애플리케이션 종료 시 남은 활동 시각 반영 여부
+    private boolean flushOnShutdown = true;
+}
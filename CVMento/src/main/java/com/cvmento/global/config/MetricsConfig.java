@@ -0,0 +1,54 @@
+package com.cvmento.global.config;
+
+import com.cvmento.global.exception.AuthErrorCode;
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.observation.ObservationFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+import java.time.Duration;
+
+// HTTP 요청 메트릭은 Actuator의 http.server.requests(라우트/메서드/상태/outcome 태그)를 그대로 사용
+@Configuration
+public class MetricsConfig {
+
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+    private static final String NO_ERROR_CODE = "none";
+
+    // management.metrics.distribution.percentiles-histogram.http.server.requests=true 와 동일
+    // (application.yml이 저장소에 없으므로 코드 기본값으로 지정, 설정 파일의 값이 있으면 그 값이 우선)
+    @Bean
+    public MeterFilter httpServerRequestsHistogram() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().equals(HTTP_SERVER_REQUESTS)) {
+                    return config;
+                }
+                return config.merge(DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(30).toNanos())
+                        .build());
+            }
+        };
+    }
+
+    // 비즈니스 에러 코드(AuthErrorCode, GlobalExceptionHandler가 기록)를 error_code 태그로 추가
+    // 에러 코드는 고정된 목록이므로 카디널리티가 늘어나지 않음, 없으면 none
+    @Bean
+    public ObservationFilter errorCodeObservationFilter() {
+        return context -> {
+            if (context instanceof ServerRequestObservationContext serverContext) {
+                Object errorCode = serverContext.getCarrier().getAttribute(AuthErrorCode.REQUEST_ATTRIBUTE);
+                serverContext.addLowCardinalityKeyValue(
+                        KeyValue.of("error_code", errorCode != null ? errorCode.toString() : NO_ERROR_CODE));
+            }
+            return context;
+        };
+    }
+}
@@ -1,34 +1,70 @@
 package com.cvmento.global.config;
 
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
 
 @Configuration
+@RequiredArgsConstructor
 public class RedisConfig {
 
-    @Value("${spring.data.redis.host}")
+    private final RedisTopologyProperties properties;
+
+    @Value("${spring.data.redis.host:localhost}")
     private String host;
 
-    @Value("${spring.data.redis.port}")
+    @Value("${spring.data.redis.port:6379}")
     private int port;
 
-    @Value("${spring.data.redis.password}")
+    @Value("${spring.data.redis.password:}")
     private String password;
 
+    // 쓰기와 일반 조회는 항상 Primary(마스터)로 전달 (명령 타임아웃은 Lettuce 기본값)
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
-        config.setHostName(host);
-        config.setPort(port);
-        config.setPassword(password);
-        return new LettuceConnectionFactory(config);
+    @Primary
+    public LettuceConnectionFactory redisConnectionFactory() {
+        return connectionFactory(null, null);
+    }
+
+    // 인증 요청 경로 전용 커넥션 - 짧은 명령 타임아웃(app.redis.auth-command-timeout)은 이 커넥션에만 적용
+    @Bean
+    public LettuceConnectionFactory authRedisConnectionFactory() {
+        return connectionFactory(null, properties.getAuthCommandTimeout());
+    }
+
+    // 복제본 읽기용 커넥션 (app.redis.replica-reads=true 인 경우에만 생성, 인증 조회에만 사용)
+    // 단일 노드 구성에서는 INFO replication으로 연결된 복제본을 탐색
+    @Bean
+    @ConditionalOnProperty(prefix = "app.redis", name = "replica-reads", havingValue = "true")
+    public LettuceConnectionFactory replicaRedisConnectionFactory() {
+        return connectionFactory(ReadFrom.valueOf(properties.getReadFrom()), properties.getAuthCommandTimeout());
     }
 
     @Bean
@@ -44,4 +80,130 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
-}
\ No newline at end of file
+
+    // 문자열 값 그대로 저장 (기동 시 스캔, 로컬 캐시 무효화 발행 등 요청 경로 밖의 작업)
+    @Bean
+    @Primary
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(connectionFactory);
+    }
+
+    @Bean
+    @Primary
+    public ReactiveStringRedisTemplate reactiveStringRedisTemplate(LettuceConnectionFactory connectionFactory) {
+        return new ReactiveStringRedisTemplate(connectionFactory);
+    }
+
+    // 인증 상태(세션 레코드, 블랙리스트, 폐기 기준 시각)는 타입 정보 없는 문자열 그대로 저장
+    @Bean
+    public StringRedisTemplate authStringRedisTemplate(
+            @Qualifier("authRedisConnectionFactory") LettuceConnectionFactory authConnectionFactory) {
+        return new StringRedisTemplate(authConnectionFactory);
+    }
+
+    // 요청 스레드를 점유하지 않는 비동기 인증 호출용 (Lettuce 비동기 커넥션 공유)
+    @Bean
+    public ReactiveStringRedisTemplate authReactiveStringRedisTemplate(
+            @Qualifier("authRedisConnectionFactory") LettuceConnectionFactory authConnectionFactory) {
+        return new ReactiveStringRedisTemplate(authConnectionFactory);
+    }
+
+    // 읽기 전용 인증 조회용 (복제본 읽기가 비활성화되면 인증 커넥션 사용)
+    @Bean
+    public StringRedisTemplate replicaStringRedisTemplate(
+            @Qualifier("authRedisConnectionFactory") LettuceConnectionFactory authConnectionFactory,
+            @Qualifier("replicaRedisConnectionFactory") ObjectProvider<LettuceConnectionFactory> replicaConnectionFactory) {
+        return new StringRedisTemplate(replicaConnectionFactory.getIfAvailable(() -> authConnectionFactory));
+    }
+
+    @Bean
+    public ReactiveStringRedisTemplate replicaReactiveStringRedisTemplate(
+            @Qualifier("authRedisConnectionFactory") LettuceConnectionFactory authConnectionFactory,
+            @Qualifier("replicaRedisConnectionFactory") ObjectProvider<LettuceConnectionFactory> replicaConnectionFactory) {
+        return new ReactiveStringRedisTemplate(replicaConnectionFactory.getIfAvailable(() -> authConnectionFactory));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        // 노드 간 로컬 캐시 무효화 등 Pub/Sub 메시지 수신용
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    private LettuceConnectionFactory connectionFactory(ReadFrom readFrom, Duration commandTimeout) {
+        LettuceClientConfiguration clientConfiguration = clientConfiguration(readFrom, commandTimeout);
+        LettuceConnectionFactory factory = switch (properties.getMode()) {
+            case STANDALONE -> new LettuceConnectionFactory(standaloneConfiguration(), clientConfiguration);
+            case SENTINEL -> new LettuceConnectionFactory(sentinelConfiguration(), clientConfiguration);
+            case CLUSTER -> new LettuceConnectionFactory(clusterConfiguration(), clientConfiguration);
+        };
+
+        // 풀 사용 시 공유 커넥션 대신 풀에서 커넥션을 빌려 명령 실행
+        factory.setShareNativeConnection(!properties.getPool().isEnabled());
+        return factory;
+    }
+
+    private RedisStandaloneConfiguration standaloneConfiguration() {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
+        config.setHostName(host);
+        config.setPort(port);
+        config.setPassword(password);
+        return config;
+    }
+
+    private RedisSentinelConfiguration sentinelConfiguration() {
+        RedisTopologyProperties.Sentinel sentinel = properties.getSentinel();
+        RedisSentinelConfiguration config = new RedisSentinelConfiguration();
+        config.master(sentinel.getMaster());
+        sentinel.getNodes().forEach(node -> config.sentinel(RedisNode.fromString(node)));
+        config.setPassword(password);
+        if (StringUtils.hasText(sentinel.getPassword())) {
+            config.setSentinelPassword(sentinel.getPassword());
+        }
+        return config;
+    }
+
+    private RedisClusterConfiguration clusterConfiguration() {
+        RedisTopologyProperties.Cluster cluster = properties.getCluster();
+        RedisClusterConfiguration config = new RedisClusterConfiguration(cluster.getNodes());
+        if (cluster.getMaxRedirects() != null) {
+            config.setMaxRedirects(cluster.getMaxRedirects());
+        }
+        config.setPassword(password);
+        return config;
+    }
+
+    private LettuceClientConfiguration clientConfiguration(ReadFrom readFrom, Duration commandTimeout) {
+        RedisTopologyProperties.Pool pool = properties.getPool();
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder;
+        if (pool.isEnabled()) {
+            GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+            poolConfig.setMaxTotal(pool.getMaxActive());
+            poolConfig.setMaxIdle(pool.getMaxIdle());
+            poolConfig.setMinIdle(pool.getMinIdle());
+            poolConfig.setMaxWait(pool.getMaxWait());
+            builder = LettucePoolingClientConfiguration.builder().poolConfig(poolConfig);
+        } else {
+            builder = LettuceClientConfiguration.builder();
+        }
+
+        if (commandTimeout != null) {
+            builder.commandTimeout(commandTimeout);
+        }
+        if (readFrom != null) {
+            builder.readFrom(readFrom);
+        }
+
+        // 클러스터는 페일오버/리샤딩 시 토폴로지를 갱신해야 복제본 읽기와 MOVED 처리가 정상 동작
+        if (properties.getMode() == RedisTopologyProperties.Mode.CLUSTER) {
+            builder.clientOptions(ClusterClientOptions.builder()
+                    .topologyRefreshOptions(ClusterTopologyRefreshOptions.builder()
+                            .enableAllAdaptiveRefreshTriggers()
+                            .enablePeriodicRefresh(Duration.ofMinutes(1))
+                            .build())
+                    .build());
+        }
+        return builder.build();
+    }
+}
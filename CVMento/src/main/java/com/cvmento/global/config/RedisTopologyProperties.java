@@ -0,0 +1,64 @@
+package com.cvmento.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// Redis 배포 구성 (단일 노드 접속 정보와 비밀번호는 spring.data.redis.* 사용)
+@Component
+@ConfigurationProperties(prefix = "app.redis")
+@Getter
+@Setter
+public class RedisTopologyProperties {
+
+    private Mode mode = Mode.STANDALONE;
+    private Sentinel sentinel = new Sentinel();
+    private Cluster cluster = new Cluster();
+
+    // 읽기 전용 인증 조회(블랙리스트, 세션, Refresh Token)를 복제본에서 수행할지 여부
+    private boolean replicaReads = false;
+    // Lettuce ReadFrom 이름 (replicaPreferred, replica, nearest, any 등)
+    private String readFrom = "replicaPreferred";
+
+    // 인증 전용 커넥션(토큰 발급/갱신/로그아웃, 세션 확인, 폐기 기준 시각)의 명령 최대 대기 시간
+    // Lettuce 기본값(60초)을 쓰면 Redis 지연 시 요청 스레드가 오래 묶이므로 짧게 설정 (갱신은 초과 시 AUTH_UNAVAILABLE)
+    // 일반 커넥션(JSON redisTemplate, 기동 시 SCAN/MEMORY USAGE, Pub/Sub 리스너)은 Lettuce 기본값 유지
+    private Duration authCommandTimeout = Duration.ofMillis(500);
+    private Pool pool = new Pool();
+
+    public enum Mode {
+        STANDALONE, SENTINEL, CLUSTER
+    }
+
+    @Getter
+    @Setter
+    public static class Sentinel {
+        private String master;
+        // host:port 형식
+        private List<String> nodes = new ArrayList<>();
+        private String password;
+    }
+
+    @Getter
+    @Setter
+    public static class Cluster {
+        // host:port 형식 (일부 노드만 지정해도 나머지는 자동 탐색)
+        private List<String> nodes = new ArrayList<>();
+        private Integer maxRedirects;
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private boolean enabled = false;
+        private int maxActive = 16;
+        private int maxIdle = 16;
+        private int minIdle = 0;
+        private Duration maxWait = Duration.ofMillis(500);
+    }
+}
@@ -0,0 +1,10 @@
+package com.cvmento.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업은 Spring Boot가 구성하는 taskScheduler(spring.task.scheduling.*)에서 실행
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -2,29 +2,72 @@ package com.cvmento.global.config;
 
 import com.cvmento.global.security.JwtAuthenticationFilter;
 import com.cvmento.global.security.OAuth2SuccessHandler;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.util.List;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // 인증 없이 접근 가능하며 JwtAuthenticationFilter도 거치지 않는 경로
+    public static final String[] PUBLIC_PATHS = {
+            "/",
+            "/login/**",
+            "/oauth2/**",
+            "/swagger-ui/**",
+            "/swagger-ui.html",
+            "/swagger-resources/**",  // 추가
+            "/webjars/**",           // 추가
+            "/api-docs/**",
+            "/v3/api-docs/**",
+            "/v3/api-docs.yaml",     // 추가
+            "/auth/test-login",
+            "/auth/login/google",
+            "/auth/refresh",
+            "/health",
+            "/error"
+    };
+
+    // 토큰 대신 요청 IP로 접근을 제한하며 JwtAuthenticationFilter를 거치지 않는 경로 (메트릭 수집용)
+    public static final String[] METRICS_PATHS = {
+            "/actuator/prometheus"
+    };
+
+    // 인증 없이 접근 가능하지만 로그인 여부를 확인해야 하므로 필터는 거치는 경로
+    public static final String[] AUTH_OPTIONAL_PATHS = {
+            "/auth/status"
+    };
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final CorsConfigurationSource corsConfigurationSource;
+    private final List<IpAddressMatcher> metricsScrapers;
 
+    // 수집기 대역만 허용 (기본값은 로컬), 프록시 뒤라면 프록시가 아닌 수집기 IP가 보이도록
+    // server.forward-headers-strategy를 설정하거나 management.server.port로 관리 포트를 분리
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
                           OAuth2SuccessHandler oAuth2SuccessHandler,
-                          CorsConfigurationSource corsConfigurationSource) {
+                          CorsConfigurationSource corsConfigurationSource,
+                          @Value("${app.metrics.allowed-ip-ranges:127.0.0.1/32,::1/128}") List<String> metricsAllowedIpRanges) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.oAuth2SuccessHandler = oAuth2SuccessHandler;
         this.corsConfigurationSource = corsConfigurationSource;
+        this.metricsScrapers = metricsAllowedIpRanges.stream()
+                .map(String::trim)
+                .map(IpAddressMatcher::new)
+                .toList();
     }
 
     @Bean
@@ -34,24 +77,10 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(
-                                "/",
-                                "/login/**",
-                                "/oauth2/**",
-                                "/swagger-ui/**",
-                                "/swagger-ui.html",
-                                "/swagger-resources/**",  // 추가
-                                "/webjars/**",           // 추가
-                                "/api-docs/**",
-                                "/v3/api-docs/**",
-                                "/v3/api-docs.yaml",     // 추가
-                                "/auth/test-login",
-                                "/auth/login/google",
-                                "/auth/refresh",
-                                "/auth/status",
-                                "/health",
-                                "/error"
-                        ).permitAll()
+                        .requestMatchers(PUBLIC_PATHS).permitAll()
+                        .requestMatchers(METRICS_PATHS).access((authentication, context) ->
+                                new AuthorizationDecision(isMetricsScraper(context.getRequest())))
+                        .requestMatchers(AUTH_OPTIONAL_PATHS).permitAll()
                         .anyRequest().authenticated()
                 )
                 .oauth2Login(oauth2 -> oauth2
@@ -62,4 +91,8 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    private boolean isMetricsScraper(HttpServletRequest request) {
+        return metricsScrapers.stream().anyMatch(matcher -> matcher.matches(request));
+    }
 }
\ No newline at end of file
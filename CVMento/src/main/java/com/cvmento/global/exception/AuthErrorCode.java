@@ -0,0 +1,102 @@
+package com.cvmento.global.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// 인증 거부 응답 카탈로그 (인증 필터, 토큰 갱신 API, GlobalExceptionHandler가 공유)
+// timestamp를 제외한 응답 본문을 UTF-8 바이트로 미리 만들어 둠
+// 잘못된 토큰이 대량으로 들어와도 거부 응답마다 JSON 직렬화를 하지 않도록 하기 위함
+// - API 응답: CommonResponse.error와 같은 형식 (timestamp는 ISO 문자열)
+// - 인증 필터 응답: 기존 필터 응답과 같은 형식 (timestamp는 epoch 밀리초 숫자)
+@Getter
+public enum AuthErrorCode {
+
+    UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증되지 않은 사용자입니다.", false),
+    INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰 형식입니다.", false),
+    WRONG_TOKEN_TYPE(HttpStatus.UNAUTHORIZED, "Access Token이 아닙니다.", false),
+    ACCESS_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "Access Token이 만료되었습니다.", true),
+    TOKEN_BLACKLISTED(HttpStatus.UNAUTHORIZED, "로그아웃된 토큰입니다.", false),
+    SESSION_INVALID(HttpStatus.UNAUTHORIZED, "세션이 유효하지 않습니다.", false),
+    USER_NOT_FOUND(HttpStatus.UNAUTHORIZED, "사용자를 찾을 수 없습니다.", false),
+    USER_DEACTIVATED(HttpStatus.UNAUTHORIZED, "비활성화된 계정입니다.", false),
+    AUTHENTICATION_ERROR(HttpStatus.UNAUTHORIZED, "인증 처리 중 오류가 발생했습니다.", false),
+    NO_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "세션이 만료되었습니다. 다시 로그인해주세요.", false),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "세션이 만료되었습니다. 다시 로그인해주세요.", false),
+    REFRESH_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "세션이 만료되었습니다. 다시 로그인해주세요.", false),
+    SESSION_EXPIRED(HttpStatus.UNAUTHORIZED, "세션이 만료되었습니다. 다시 로그인해주세요.", false),
+    SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 기기 세션입니다.", false),
+    AUTH_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "일시적으로 인증을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", true);
+
+    // LoggerFilter/접근 로그에서 비즈니스 오류 코드를 읽는 요청 속성 (GlobalExceptionHandler와 같은 이름)
+    public static final String REQUEST_ATTRIBUTE = "businessErrorCode";
+
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+    private static final byte[] BODY_SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FILTER_BODY_SUFFIX = "}".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpStatus status;
+    private final String message;
+    private final boolean canRetry;
+    @Getter(AccessLevel.NONE)
+    private final byte[] bodyPrefix;
+    @Getter(AccessLevel.NONE)
+    private final byte[] filterBodyPrefix;
+
+    AuthErrorCode(HttpStatus status, String message, boolean canRetry) {
+        this.status = status;
+        this.message = message;
+        this.canRetry = canRetry;
+        // CommonResponse의 필드 순서: success, message, errorCode, canRetry, timestamp
+        this.bodyPrefix = ("{\"success\":false,\"message\":\"" + escape(message)
+                + "\",\"errorCode\":\"" + escape(name())
+                + "\",\"canRetry\":" + canRetry
+                + ",\"timestamp\":\"").getBytes(StandardCharsets.UTF_8);
+        // 인증 필터의 기존 응답 필드 순서: success, errorCode, message, canRetry, timestamp
+        this.filterBodyPrefix = ("{\"success\":false,\"errorCode\":\"" + escape(name())
+                + "\",\"message\":\"" + escape(message)
+                + "\",\"canRetry\":" + canRetry
+                + ",\"timestamp\":").getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 응답 본문을 출력 스트림에 직접 기록 (timestamp만 요청 시점 값으로 채움)
+    public void write(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        byte[] timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                .getBytes(StandardCharsets.US_ASCII);
+        write(request, response, bodyPrefix, timestamp, BODY_SUFFIX);
+    }
+
+    // 인증 필터의 거부 응답 (클라이언트가 읽는 기존 필터 응답의 숫자 timestamp 유지)
+    public void writeFilterRejection(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        byte[] timestamp = Long.toString(System.currentTimeMillis()).getBytes(StandardCharsets.US_ASCII);
+        write(request, response, filterBodyPrefix, timestamp, FILTER_BODY_SUFFIX);
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response,
+                       byte[] prefix, byte[] timestamp, byte[] suffix) throws IOException {
+        request.setAttribute(REQUEST_ATTRIBUTE, name());
+        response.setStatus(status.value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(prefix.length + timestamp.length + suffix.length);
+
+        ServletOutputStream out = response.getOutputStream();
+        out.write(prefix);
+        out.write(timestamp);
+        out.write(suffix);
+        out.flush();
+    }
+
+    private static String escape(String value) {
+        return new String(JsonStringEncoder.getInstance().quoteAsString(value));
+    }
+}
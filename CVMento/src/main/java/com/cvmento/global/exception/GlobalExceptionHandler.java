@@ -1,7 +1,9 @@
 package com.cvmento.global.exception;
 
 
+import com.cvmento.global.exception.customException.AuthException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -25,7 +28,7 @@ public class GlobalExceptionHandler {
             String message,
             Map<String, String> errors
     ) {
-        request.setAttribute("businessErrorCode", errorCode);
+        request.setAttribute(AuthErrorCode.REQUEST_ATTRIBUTE, errorCode);
         Map<String, Object> body = Map.of(
                 "timestamp", LocalDateTime.now(),
                 "status", status.value(),
@@ -55,4 +58,11 @@ public class GlobalExceptionHandler {
                 fieldErrors
         );
     }
-}
\ No newline at end of file
+
+    // 인증 실패는 미리 만든 응답 본문을 그대로 기록
+    @ExceptionHandler(AuthException.class)
+    public void handleAuthException(AuthException ex, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.debug("Authentication rejected: {} ({})", ex.getErrorCode(), ex.getMessage());
+        ex.getErrorCode().write(request, response);
+    }
+}
@@ -0,0 +1,21 @@
+package com.cvmento.global.exception.customException;
+
+import com.cvmento.global.exception.AuthErrorCode;
+import lombok.Getter;
+
+// 인증 실패 예외 - GlobalExceptionHandler가 AuthErrorCode의 미리 만든 응답으로 변환
+// 잘못된 토큰 요청마다 발생하는 예상된 실패이므로 스택 트레이스를 만들지 않음
+@Getter
+public class AuthException extends RuntimeException {
+
+    private final AuthErrorCode errorCode;
+
+    public AuthException(AuthErrorCode errorCode) {
+        this(errorCode, errorCode.getMessage());
+    }
+
+    public AuthException(AuthErrorCode errorCode, String detail) {
+        super(detail, null, false, false);
+        this.errorCode = errorCode;
+    }
+}
@@ -0,0 +1,25 @@
+package com.cvmento.global.security;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+// 비동기 구현을 동기 API로 노출할 때 사용 (호출 측은 기존처럼 DataAccessException 등 원래 예외를 받음)
+final class AsyncResults {
+
+    private AsyncResults() {
+    }
+
+    static <T> T await(CompletionStage<T> stage) {
+        try {
+            return stage.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
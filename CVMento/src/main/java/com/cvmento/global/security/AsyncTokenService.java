@@ -0,0 +1,205 @@
+package com.cvmento.global.security;
+
+import com.cvmento.domain.auth.dto.TokenDto;
+import com.cvmento.domain.auth.enums.SessionVerdict;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+// Lettuce 비동기 커넥션 기반 토큰 서비스 (호출 스레드를 블로킹하지 않음)
+// 세션 검증, 로그인 세션 저장, 토큰/기기 폐기, 로그아웃의 유일한 구현이며 TokenService의 같은 동기 API는 이 결과를 기다려 반환
+// 반환된 CompletionStage는 Lettuce I/O 스레드에서 완료되므로 후속 처리에서 블로킹 호출을 하면 안 됨
+@Service
+@Slf4j
+public class AsyncTokenService {
+
+    private static final String BLACKLIST_VALUE = "1";
+    private static final int MAX_DEVICE_NAME_LENGTH = 100;
+
+    private final JwtUtil jwtUtil;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    // 읽기 전용 조회용 (app.redis.replica-reads=true 이면 복제본에서 읽음)
+    private final ReactiveStringRedisTemplate replicaReactiveRedisTemplate;
+    private final BlacklistBloomFilter blacklistBloomFilter;
+    private final RevocationEpochStore revocationEpochStore;
+    private final AuthStateFallbackStore fallbackStore;
+    private final AuthObservations observations;
+    private final AuthRedisKeys keys;
+    private final boolean replicaReads;
+    private final int maxDevices;
+
+    public AsyncTokenService(JwtUtil jwtUtil,
+                             @Qualifier("authReactiveStringRedisTemplate") ReactiveStringRedisTemplate reactiveRedisTemplate,
+                             @Qualifier("replicaReactiveStringRedisTemplate") ReactiveStringRedisTemplate replicaReactiveRedisTemplate,
+                             BlacklistBloomFilter blacklistBloomFilter,
+                             RevocationEpochStore revocationEpochStore,
+                             AuthStateFallbackStore fallbackStore,
+                             AuthObservations observations,
+                             AuthRedisKeys keys,
+                             @Value("${app.redis.replica-reads:false}") boolean replicaReads,
+                             @Value("${auth.session.max-devices:5}") int maxDevices) {
+        this.jwtUtil = jwtUtil;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.replicaReactiveRedisTemplate = replicaReactiveRedisTemplate;
+        this.blacklistBloomFilter = blacklistBloomFilter;
+        this.revocationEpochStore = revocationEpochStore;
+        this.fallbackStore = fallbackStore;
+        this.observations = observations;
+        this.keys = keys;
+        this.replicaReads = replicaReads;
+        this.maxDevices = Math.max(1, maxDevices);
+    }
+
+    // 로그인한 기기마다 새 기기 ID로 세션을 추가 (다른 기기의 세션은 유지)
+    // 만료된 기기 정리, 기기 세션 추가, 기기 수 제한에 따른 제거를 하나의 스크립트로 원자적으로 처리
+    public CompletionStage<TokenDto> issueTokens(String userId, String email, String deviceName) {
+        String deviceId = JwtUtil.randomId();
+        IssuedToken accessToken = jwtUtil.issueAccessToken(userId, email, deviceId);
+        IssuedToken refreshToken = jwtUtil.issueRefreshToken(userId, email, deviceId);
+
+        return observations.redisAsync("issue_tokens", () -> reactiveRedisTemplate.execute(TokenRedisScripts.ISSUE_TOKENS,
+                        List.of(keys.userSession(userId), keys.userDevices(userId), keys.legacyRefreshToken(userId)),
+                        List.of(deviceId, refreshToken.jti(), String.valueOf(System.currentTimeMillis()),
+                                String.valueOf(refreshToken.secondsToExpiry()), String.valueOf(maxDevices), deviceName(deviceName),
+                                String.valueOf(refreshToken.expiresAt().toEpochMilli())))
+                        .next()
+                        .toFuture())
+                .thenApply(evicted -> {
+                    fallbackStore.sessionConfirmed(userId, deviceId);
+                    if (evicted != null && evicted > 0) {
+                        log.info("Evicted {} least recently used device sessions for user ID: {}", evicted, userId);
+                    }
+                    return TokenDto.of(accessToken.token(), refreshToken.token(),
+                            accessToken.expirationAsLocalDateTime(), refreshToken.expirationAsLocalDateTime());
+                });
+    }
+
+    // 블룸 필터에 없으면 Redis 조회 생략, 있을 수도 있으면 Primary에서 확인
+    // (필터는 Pub/Sub으로 즉시 갱신되므로 복제 지연 중인 복제본 대신 Primary를 조회해야 방금 폐기된 토큰도 거부됨)
+    public CompletionStage<Boolean> isTokenBlacklisted(VerifiedToken token) {
+        if (!blacklistBloomFilter.mightContain(token.jti())) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return observations.redisAsync("blacklist_exists",
+                () -> reactiveRedisTemplate.hasKey(keys.blacklist(token.jti())).toFuture());
+    }
+
+    // 토큰을 발급한 기기의 세션 확인, 복제본에 없으면 복제 지연일 수 있으므로 Primary에서 다시 확인
+    public CompletionStage<Boolean> isSessionValid(VerifiedToken token) {
+        String key = keys.userSession(token.subject());
+        String field = AuthRedisKeys.deviceField(AuthRedisKeys.FIELD_REFRESH_JTI, token.deviceId());
+        return observations.redisAsync("session_exists", () -> replicaReactiveRedisTemplate.opsForHash().hasKey(key, field).toFuture())
+                .thenCompose(exists -> exists || !replicaReads
+                        ? CompletableFuture.completedFuture(exists)
+                        : observations.redisAsync("session_exists_primary",
+                                () -> reactiveRedisTemplate.opsForHash().hasKey(key, field).toFuture()));
+    }
+
+    // 명령을 동시에 보내 Lettuce 커넥션에서 자동으로 파이프라이닝되도록 함
+    // 폐기 기준 시각은 대부분 로컬 캐시, 블랙리스트는 대부분 블룸 필터에서 판정되어 보통 세션 조회 1회만 전송됨
+    public CompletionStage<SessionVerdict> checkSession(VerifiedToken accessToken) {
+        CompletableFuture<Long> revocationEpoch = revocationEpochStore.epochOf(accessToken.subject());
+        CompletableFuture<Boolean> blacklisted = isTokenBlacklisted(accessToken).toCompletableFuture();
+        CompletableFuture<Boolean> sessionValid = isSessionValid(accessToken).toCompletableFuture();
+
+        return blacklisted.thenCombine(revocationEpoch, (isBlacklisted, epoch) ->
+                        Boolean.TRUE.equals(isBlacklisted) || RevocationEpochStore.isRevoked(accessToken, epoch))
+                .thenCombine(sessionValid, (revoked, isSessionValid) -> {
+                    if (revoked) {
+                        return SessionVerdict.TOKEN_BLACKLISTED;
+                    }
+                    return Boolean.TRUE.equals(isSessionValid) ? SessionVerdict.VALID : SessionVerdict.SESSION_INVALID;
+                });
+    }
+
+    // 개별 토큰 폐기 - 만료 시각까지만 보관하고 모든 노드의 블룸 필터와 장애 대비 기록에 전파
+    public CompletionStage<Void> revokeToken(VerifiedToken token) {
+        if (token == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long expiresAtMillis = token.expiration().getTime();
+        long ttl = expiresAtMillis - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return observations.redisAsync("blacklist_set", () -> reactiveRedisTemplate.opsForValue()
+                        .set(keys.blacklist(token.jti()), BLACKLIST_VALUE, Duration.ofMillis(ttl))
+                        .toFuture())
+                .thenCompose(stored -> {
+                    blacklistBloomFilter.addLocally(token.jti(), expiresAtMillis);
+                    fallbackStore.tokenRevoked(token.jti(), expiresAtMillis);
+                    return reactiveRedisTemplate.convertAndSend(blacklistBloomFilter.getChannel(),
+                                    BlacklistBloomFilter.message(token.jti(), expiresAtMillis))
+                            .onErrorResume(e -> {
+                                // 전파 실패 시 다른 노드는 블룸 필터를 통과하지 못해 Redis 확인 없이 허용할 수 있으나,
+                                // 같은 로그아웃에서 삭제되는 기기 세션 확인으로 거부됨
+                                log.warn("Failed to publish blacklist update for jti: {}", token.jti(), e);
+                                return Mono.just(0L);
+                            })
+                            .then()
+                            .toFuture();
+                });
+    }
+
+    // 한 기기의 세션 폐기 - 해당 기기의 Access Token은 다음 요청의 세션 확인에서 거부됨
+    public CompletionStage<Boolean> revokeSession(String userId, String deviceId) {
+        return observations.redisAsync("revoke_device", () -> reactiveRedisTemplate.execute(TokenRedisScripts.REVOKE_DEVICE,
+                                List.of(keys.userSession(userId), keys.userDevices(userId)),
+                                List.of(AuthRedisKeys.deviceSuffix(deviceId), deviceId == null ? "" : deviceId))
+                        .next()
+                        .toFuture())
+                .thenApply(removed -> {
+                    fallbackStore.sessionRevoked(userId, deviceId);
+                    return removed != null && removed > 0;
+                });
+    }
+
+    // 모든 기기에서 로그아웃 - 제시된 토큰의 블랙리스트 등록과 사용자의 모든 기기 세션 폐기
+    public CompletionStage<Void> logout(String userId, VerifiedToken accessToken, VerifiedToken refreshToken) {
+        return CompletableFuture.allOf(
+                revokeToken(accessToken).toCompletableFuture(),
+                revokeToken(refreshToken).toCompletableFuture(),
+                logoutAll(userId).toCompletableFuture());
+    }
+
+    // 현재 기기만 로그아웃 - 제시된 토큰은 세션 삭제와 별도로 블랙리스트에도 등록
+    // (복제 지연 중인 복제본이나 Redis 장애 시 다른 노드의 로컬 기록으로 세션이 유효하게 보이는 경우에도 거부되도록 함)
+    public CompletionStage<Void> logoutDevice(VerifiedToken accessToken, VerifiedToken refreshToken) {
+        VerifiedToken current = accessToken != null ? accessToken : refreshToken;
+        if (current == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.allOf(
+                revokeToken(accessToken).toCompletableFuture(),
+                revokeToken(refreshToken).toCompletableFuture(),
+                revokeSession(current.subject(), current.deviceId()).toCompletableFuture());
+    }
+
+    // 사용자의 모든 기기 로그아웃 (토큰 수와 관계없이 폐기 기준 시각 키 하나만 갱신)
+    // 기준 시각을 먼저 올려 세션 삭제가 실패해도 기존 토큰은 모두 거부되도록 함
+    public CompletionStage<Void> logoutAll(String userId) {
+        return observations.redisAsync("raise_revocation_epoch", () -> revocationEpochStore.revokeAllAsync(userId))
+                .thenCompose(epoch -> observations.redisAsync("delete_session", () -> reactiveRedisTemplate.delete(
+                                keys.userSession(userId),
+                                keys.userDevices(userId),
+                                keys.legacyRefreshToken(userId))
+                        .toFuture()))
+                .thenApply(deleted -> null);
+    }
+
+    private static String deviceName(String deviceName) {
+        if (deviceName == null) {
+            return "";
+        }
+        return deviceName.length() > MAX_DEVICE_NAME_LENGTH ? deviceName.substring(0, MAX_DEVICE_NAME_LENGTH) : deviceName;
+    }
+}
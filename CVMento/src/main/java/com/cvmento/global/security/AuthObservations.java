@@ -0,0 +1,81 @@
+package com.cvmento.global.security;
+
+import com.cvmento.global.exception.AuthErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+// 인증 필터 단계별/Redis 연산별 소요 시간과 거부 사유별 횟수 기록
+// Observation API를 사용하므로 메트릭(auth.filter.stage, auth.redis 타이머)으로 노출되고,
+// micrometer-tracing 브리지가 추가되면 같은 태그가 트레이스 span 속성으로도 기록됨
+@Component
+class AuthObservations {
+
+    private static final String STAGE = "auth.filter.stage";
+    private static final String REDIS = "auth.redis";
+
+    private final ObservationRegistry observationRegistry;
+    private final Map<AuthErrorCode, Counter> rejectionCounters = new EnumMap<>(AuthErrorCode.class);
+
+    AuthObservations(ObservationRegistry observationRegistry, MeterRegistry meterRegistry) {
+        this.observationRegistry = observationRegistry;
+        for (AuthErrorCode code : AuthErrorCode.values()) {
+            rejectionCounters.put(code, Counter.builder("auth.rejections")
+                    .tag("reason", code.name())
+                    .description("인증 거부 사유별 횟수")
+                    .register(meterRegistry));
+        }
+    }
+
+    void rejected(AuthErrorCode code) {
+        rejectionCounters.get(code).increment();
+    }
+
+    <T> T stage(String stage, Supplier<T> supplier) {
+        return Observation.createNotStarted(STAGE, observationRegistry)
+                .lowCardinalityKeyValue("stage", stage)
+                .observe(supplier);
+    }
+
+    // 비동기 단계는 결과가 완료되는 시점까지를 기록
+    <T> CompletableFuture<T> stageAsync(String stage, Supplier<CompletableFuture<T>> supplier) {
+        return observeAsync(Observation.createNotStarted(STAGE, observationRegistry)
+                .lowCardinalityKeyValue("stage", stage), supplier);
+    }
+
+    <T> T redis(String operation, Supplier<T> supplier) {
+        return Observation.createNotStarted(REDIS, observationRegistry)
+                .lowCardinalityKeyValue("operation", operation)
+                .observe(supplier);
+    }
+
+    <T> CompletableFuture<T> redisAsync(String operation, Supplier<CompletableFuture<T>> supplier) {
+        return observeAsync(Observation.createNotStarted(REDIS, observationRegistry)
+                .lowCardinalityKeyValue("operation", operation), supplier);
+    }
+
+    private static <T> CompletableFuture<T> observeAsync(Observation observation, Supplier<CompletableFuture<T>> supplier) {
+        observation.start();
+        CompletableFuture<T> future;
+        try {
+            future = supplier.get();
+        } catch (RuntimeException e) {
+            observation.error(e);
+            observation.stop();
+            throw e;
+        }
+        return future.whenComplete((result, error) -> {
+            if (error != null) {
+                observation.error(error);
+            }
+            observation.stop();
+        });
+    }
+}
@@ -0,0 +1,104 @@
+package com.cvmento.global.security;
+
+import com.cvmento.global.config.RedisTopologyProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 인증 상태 Redis 키 생성
+// 클러스터 모드에서는 사용자 ID를 해시 태그({userId})로 감싸 한 사용자의 키들이 같은 슬롯에 배치되도록 함
+// (세션 발급/회전 스크립트가 여러 키를 다루므로 슬롯이 다르면 CROSSSLOT 오류 발생)
+@Component
+class AuthRedisKeys {
+
+    // 사용자 세션 Hash의 기기별 필드 이름: <필드>:<기기 ID>
+    static final String FIELD_REFRESH_JTI = "rt";
+    static final String FIELD_LAST_ACTIVITY = "la";
+    static final String FIELD_CREATED_AT = "ca";
+    static final String FIELD_DEVICE_NAME = "dn";
+    static final String FIELD_EXPIRES_AT = "ex";
+
+    private final String refreshTokenPrefix;
+    private final String blacklistPrefix;
+    private final String userSessionPrefix;
+    private final String revocationEpochPrefix;
+    private final String userDevicesPrefix;
+    private final String refreshResultPrefix;
+    private final boolean hashTagged;
+
+    AuthRedisKeys(RedisTopologyProperties topology,
+                  @Value("${redis.keys.refresh-token}") String refreshTokenPrefix,
+                  @Value("${redis.keys.blacklist}") String blacklistPrefix,
+                  @Value("${redis.keys.user-session}") String userSessionPrefix,
+                  @Value("${redis.keys.revocation-epoch:revocation-epoch:}") String revocationEpochPrefix,
+                  @Value("${redis.keys.user-devices:user-devices:}") String userDevicesPrefix,
+                  @Value("${redis.keys.refresh-result:refresh-result:}") String refreshResultPrefix) {
+        this.refreshTokenPrefix = refreshTokenPrefix;
+        this.blacklistPrefix = blacklistPrefix;
+        this.userSessionPrefix = userSessionPrefix;
+        this.revocationEpochPrefix = revocationEpochPrefix;
+        this.userDevicesPrefix = userDevicesPrefix;
+        this.refreshResultPrefix = refreshResultPrefix;
+        this.hashTagged = topology.getMode() == RedisTopologyProperties.Mode.CLUSTER;
+    }
+
+    String userSession(String userId) {
+        return userKey(userSessionPrefix, userId);
+    }
+
+    // 이전 구조의 Refresh Token 키 (마이그레이션 정리용)
+    String legacyRefreshToken(String userId) {
+        return userKey(refreshTokenPrefix, userId);
+    }
+
+    // 기기 ID 집합 (Sorted Set, score: 마지막 활동 시각) - 기기 수 제한 시 가장 오래 사용하지 않은 기기부터 제거
+    String userDevices(String userId) {
+        return userKey(userDevicesPrefix, userId);
+    }
+
+    // 동시 갱신 요청이 공유하는 갱신 결과 (제시된 Refresh Token의 JTI별)
+    String refreshResult(String userId, String jti) {
+        return userKey(refreshResultPrefix, userId) + ":" + jti;
+    }
+
+    // 기기 ID가 없는 이전 토큰은 기존 단일 세션 필드(rt, la)를 그대로 사용
+    static String deviceSuffix(String deviceId) {
+        return deviceId == null || deviceId.isEmpty() ? "" : ":" + deviceId;
+    }
+
+    static String deviceField(String field, String deviceId) {
+        return field + deviceSuffix(deviceId);
+    }
+
+    String revocationEpoch(String userId) {
+        return userKey(revocationEpochPrefix, userId);
+    }
+
+    // 개별 폐기된 토큰의 jti (사용자 단위가 아니므로 해시 태그 없음)
+    String blacklist(String jti) {
+        return blacklistPrefix + jti;
+    }
+
+    String blacklistPattern() {
+        return blacklistPrefix + "*";
+    }
+
+    String jtiOfBlacklist(String blacklistKey) {
+        return blacklistKey.substring(blacklistPrefix.length());
+    }
+
+    String userSessionPattern() {
+        return userSessionPrefix + "*";
+    }
+
+    String userIdOfSession(String sessionKey) {
+        String userId = sessionKey.substring(userSessionPrefix.length());
+        if (hashTagged && userId.startsWith("{") && userId.endsWith("}")) {
+            return userId.substring(1, userId.length() - 1);
+        }
+        return userId;
+    }
+
+    private String userKey(String prefix, String userId) {
+        return hashTagged ? prefix + "{" + userId + "}" : prefix + userId;
+    }
+}
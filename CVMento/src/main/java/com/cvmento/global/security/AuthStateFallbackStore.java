@@ -0,0 +1,112 @@
+package com.cvmento.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Redis 장애 시 인증 필터가 참고하는 노드 로컬 인증 상태 기록
+// 최근 Redis에서 유효함이 확인된 기기 세션과 폐기가 확인된 jti를 크기와 기간을 제한해 보관
+// 다른 노드에서 블랙리스트에 등록한 jti도 Pub/Sub으로 기록 (전체 로그아웃은 RevocationEpochStore의 폐기 기준 시각으로도 거부)
+@Component
+@Slf4j
+public class AuthStateFallbackStore implements MessageListener {
+
+    // key: 사용자 ID + 기기 필드 접미사
+    private final Cache<String, Boolean> recentSessions;
+    // value: 토큰 만료 시각(ms), 만료 시각에 제거
+    private final Cache<String, Long> recentlyRevoked;
+
+    public AuthStateFallbackStore(RedisMessageListenerContainer listenerContainer,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${auth.degraded.session-ttl:10m}") Duration sessionTtl,
+                                  @Value("${auth.degraded.max-sessions:100000}") long maxSessions,
+                                  @Value("${auth.degraded.max-revoked:100000}") long maxRevoked,
+                                  @Value("${redis.channels.blacklist:token-blacklist}") String blacklistChannel) {
+        this.recentSessions = Caffeine.newBuilder()
+                .maximumSize(maxSessions)
+                .expireAfterWrite(sessionTtl)
+                .recordStats()
+                .build();
+        this.recentlyRevoked = Caffeine.newBuilder()
+                .maximumSize(maxRevoked)
+                .expireAfter(new ExpireAtTokenExpiration())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, recentSessions, "auth-fallback-sessions");
+        CaffeineCacheMetrics.monitor(meterRegistry, recentlyRevoked, "auth-fallback-revoked");
+        listenerContainer.addMessageListener(this, new ChannelTopic(blacklistChannel));
+    }
+
+    public void sessionConfirmed(String userId, String deviceId) {
+        recentSessions.put(sessionKey(userId, deviceId), Boolean.TRUE);
+    }
+
+    public void sessionRevoked(String userId, String deviceId) {
+        recentSessions.invalidate(sessionKey(userId, deviceId));
+    }
+
+    public boolean isSessionRecentlyValid(String userId, String deviceId) {
+        return recentSessions.getIfPresent(sessionKey(userId, deviceId)) != null;
+    }
+
+    private static String sessionKey(String userId, String deviceId) {
+        return userId + AuthRedisKeys.deviceSuffix(deviceId);
+    }
+
+    public void tokenRevoked(String jti, long expiresAtMillis) {
+        if (expiresAtMillis > System.currentTimeMillis()) {
+            recentlyRevoked.put(jti, expiresAtMillis);
+        }
+    }
+
+    public boolean isTokenRevoked(String jti) {
+        return recentlyRevoked.getIfPresent(jti) != null;
+    }
+
+    // 메시지 형식은 BlacklistBloomFilter.message와 동일 ("jti:만료 시각(ms)")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator <= 0) {
+            return;
+        }
+        try {
+            tokenRevoked(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring malformed blacklist message: {}", body);
+        }
+    }
+
+    private static final class ExpireAtTokenExpiration implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String key, Long expiresAtMillis, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAtMillis - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expiresAtMillis, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
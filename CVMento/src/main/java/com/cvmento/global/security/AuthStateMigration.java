@@ -0,0 +1,176 @@
+package com.cvmento.global.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// 이전 Redis 인증 상태 구조(JSON 직렬화 값, Refresh Token 이중 저장)를 통합 세션 레코드로 온라인 변환
+// 요청 경로에서는 세션 단위로 지연 변환하고, 기동 시에는 전체 키를 스캔해 일괄 변환 (클러스터는 마스터 노드별 스캔)
+@Component
+@Slf4j
+public class AuthStateMigration {
+
+    static final String LEGACY_FIELD_REFRESH_TOKEN = "refreshToken";
+    private static final int BATCH_SIZE = 500;
+    private static final int MEMORY_SAMPLE_SIZE = 100;
+
+    private final JwtUtil jwtUtil;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AuthRedisKeys keys;
+    private final boolean enabled;
+
+    public AuthStateMigration(JwtUtil jwtUtil,
+                              StringRedisTemplate stringRedisTemplate,
+                              AuthRedisKeys keys,
+                              @Value("${auth.redis.migration.enabled:true}") boolean enabled) {
+        this.jwtUtil = jwtUtil;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.keys = keys;
+        this.enabled = enabled;
+    }
+
+    // 이전 구조의 세션을 변환하고 저장된 Refresh Token jti를 반환 (변환 대상이 아니면 null)
+    public String migrateSession(String userId) {
+        String sessionKey = keys.userSession(userId);
+        Object legacyValue = stringRedisTemplate.opsForHash().get(sessionKey, LEGACY_FIELD_REFRESH_TOKEN);
+        if (legacyValue == null) {
+            return null;
+        }
+
+        Optional<VerifiedToken> refreshToken = jwtUtil.verify(decodeLegacyString(legacyValue.toString()));
+        if (refreshToken.isEmpty() || refreshToken.get().isExpired()) {
+            stringRedisTemplate.delete(List.of(sessionKey, keys.legacyRefreshToken(userId)));
+            return null;
+        }
+
+        String jti = refreshToken.get().jti();
+        stringRedisTemplate.execute(TokenRedisScripts.MIGRATE_SESSION,
+                List.of(sessionKey, keys.legacyRefreshToken(userId)),
+                jti, String.valueOf(System.currentTimeMillis()));
+        return jti;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateAll() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            migrateSessions();
+        } catch (Exception e) {
+            // 변환되지 않은 세션은 요청 경로에서 지연 변환됨
+            log.error("Auth state migration failed", e);
+        }
+    }
+
+    private void migrateSessions() {
+        MigrationStats stats = new MigrationStats();
+        ScanOptions options = ScanOptions.scanOptions().match(keys.userSessionPattern()).count(BATCH_SIZE).build();
+
+        RedisConnectionFactory connectionFactory = stringRedisTemplate.getRequiredConnectionFactory();
+        if (connectionFactory instanceof LettuceConnectionFactory lettuce && lettuce.isClusterAware()) {
+            // 클러스터의 SCAN은 연결된 한 노드의 키만 돌려주므로 마스터 노드마다 따로 스캔
+            // MEMORY USAGE는 키 기준 라우팅이 되지 않아 다른 노드에서 실행될 수 있으므로 측정하지 않음
+            stats.sampleMemory = false;
+            try (RedisClusterConnection connection = connectionFactory.getClusterConnection()) {
+                for (RedisClusterNode node : masters(connection)) {
+                    try (Cursor<byte[]> cursor = connection.scan(node, options)) {
+                        while (cursor.hasNext()) {
+                            migrateScanned(new String(cursor.next(), StandardCharsets.UTF_8), stats);
+                        }
+                    }
+                }
+            }
+        } else {
+            try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    migrateScanned(cursor.next(), stats);
+                }
+            }
+        }
+
+        if (stats.sampled > 0) {
+            log.info("Migrated {} user sessions to compact records, bytes per session: {} -> {} (sampled {})",
+                    stats.migrated, stats.bytesBefore / stats.sampled, stats.bytesAfter / stats.sampled, stats.sampled);
+        } else {
+            log.info("Migrated {} user sessions to compact records", stats.migrated);
+        }
+    }
+
+    // 장애 상태인 마스터가 있으면 그 슬롯의 키를 빠뜨린 채 완료로 기록하지 않도록 스캔 전에 중단
+    static List<RedisClusterNode> masters(RedisClusterConnection connection) {
+        List<RedisClusterNode> masters = new ArrayList<>();
+        for (RedisClusterNode node : connection.clusterGetNodes()) {
+            if (!node.isMaster()) {
+                continue;
+            }
+            if (node.isMarkedAsFail()) {
+                throw new IllegalStateException("Redis cluster master " + node + " is failing, scan aborted");
+            }
+            masters.add(node);
+        }
+        if (masters.isEmpty()) {
+            throw new IllegalStateException("No Redis cluster master found, scan aborted");
+        }
+        return masters;
+    }
+
+    private void migrateScanned(String sessionKey, MigrationStats stats) {
+        String userId = keys.userIdOfSession(sessionKey);
+
+        if (!stringRedisTemplate.opsForHash().hasKey(sessionKey, LEGACY_FIELD_REFRESH_TOKEN)) {
+            return;
+        }
+
+        // 일부 세션만 변환 전후 메모리 사용량(MEMORY USAGE)을 측정
+        boolean sample = stats.sampleMemory && stats.sampled < MEMORY_SAMPLE_SIZE;
+        long before = sample ? memoryUsage(sessionKey) + memoryUsage(keys.legacyRefreshToken(userId)) : 0L;
+
+        if (migrateSession(userId) != null) {
+            stats.migrated++;
+            if (sample) {
+                stats.bytesBefore += before;
+                stats.bytesAfter += memoryUsage(sessionKey);
+                stats.sampled++;
+            }
+        }
+    }
+
+    private long memoryUsage(String key) {
+        Object usage = stringRedisTemplate.execute((RedisCallback<Object>) connection ->
+                connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8)));
+        return usage instanceof Long bytes ? bytes : 0L;
+    }
+
+    // GenericJackson2JsonRedisSerializer로 저장된 문자열 값의 따옴표 제거
+    private static String decodeLegacyString(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    private static final class MigrationStats {
+        private boolean sampleMemory = true;
+        private int migrated;
+        private int sampled;
+        private long bytesBefore;
+        private long bytesAfter;
+    }
+}
@@ -0,0 +1,312 @@
+package com.cvmento.global.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// JTI 블랙리스트 앞단의 노드 로컬 블룸 필터
+// "없음"이 확실한 경우 Redis 조회를 생략하고, "있을 수도 있음"인 경우에만 Redis로 확인
+// 블룸 필터는 삭제가 불가능하므로 토큰 만료 시각 기준의 세대(generation)로 나누고 만료된 세대를 통째로 폐기
+@Component
+@Slf4j
+public class BlacklistBloomFilter implements MessageListener {
+
+    private static final int SEED_BATCH_SIZE = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AuthRedisKeys keys;
+    private final String blacklistChannel;
+    private final long generationIntervalMillis;
+    private final int bitsPerGeneration;
+    private final int hashFunctions;
+
+    // key: 세대 번호 (만료 시각 / 세대 간격)
+    private final ConcurrentNavigableMap<Long, Generation> generations = new ConcurrentSkipListMap<>();
+    private volatile boolean seeded = false;
+
+    private final Counter negativeCounter;
+    private final Counter positiveCounter;
+
+    public BlacklistBloomFilter(StringRedisTemplate stringRedisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                MeterRegistry meterRegistry,
+                                AuthRedisKeys keys,
+                                @Value("${redis.channels.blacklist:token-blacklist}") String blacklistChannel,
+                                @Value("${auth.blacklist-filter.generation-interval:6h}") Duration generationInterval,
+                                @Value("${auth.blacklist-filter.expected-insertions-per-generation:10000}") int expectedInsertions,
+                                @Value("${auth.blacklist-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.keys = keys;
+        this.blacklistChannel = blacklistChannel;
+        this.generationIntervalMillis = generationInterval.toMillis();
+
+        // m = -n ln p / (ln 2)^2, k = m / n * ln 2
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitsPerGeneration = (int) Math.max(64, Math.min(bits, Integer.MAX_VALUE - 63));
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitsPerGeneration / expectedInsertions * Math.log(2)));
+
+        this.negativeCounter = Counter.builder("auth.blacklist.filter.checks")
+                .tag("result", "negative")
+                .description("블룸 필터에서 걸러져 Redis 조회가 생략된 횟수")
+                .register(meterRegistry);
+        this.positiveCounter = Counter.builder("auth.blacklist.filter.checks")
+                .tag("result", "maybe")
+                .description("블룸 필터 통과로 Redis 확인이 필요했던 횟수")
+                .register(meterRegistry);
+        Gauge.builder("auth.blacklist.filter.generations", generations, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("auth.blacklist.filter.memory", this, BlacklistBloomFilter::memoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("auth.blacklist.filter.insertions", this, BlacklistBloomFilter::insertions)
+                .register(meterRegistry);
+        Gauge.builder("auth.blacklist.filter.expected.fpp", this, BlacklistBloomFilter::expectedFalsePositiveRate)
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(blacklistChannel));
+    }
+
+    // false면 블랙리스트에 없음이 확실함
+    public boolean mightContain(String jti) {
+        if (!seeded) {
+            return true;
+        }
+
+        long[] hashes = hash(jti);
+        long currentGeneration = System.currentTimeMillis() / generationIntervalMillis;
+        for (Generation generation : generations.tailMap(currentGeneration, true).values()) {
+            if (generation.mightContain(hashes)) {
+                positiveCounter.increment();
+                return true;
+            }
+        }
+        negativeCounter.increment();
+        return false;
+    }
+
+    // 폐기한 노드가 addLocally 후 이 채널로 message를 발행하면 다른 노드가 onMessage에서 추가
+    public String getChannel() {
+        return blacklistChannel;
+    }
+
+    public static String message(String jti, long expiresAtMillis) {
+        return jti + ":" + expiresAtMillis;
+    }
+
+    public void addLocally(String jti, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        if (expiresAtMillis <= now) {
+            return;
+        }
+
+        long generation = expiresAtMillis / generationIntervalMillis;
+        generations.computeIfAbsent(generation, g -> new Generation(bitsPerGeneration, hashFunctions))
+                .put(hash(jti));
+
+        // 만료 시각이 모두 지난 세대는 폐기
+        generations.headMap(now / generationIntervalMillis).clear();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator <= 0) {
+            log.warn("Ignoring malformed blacklist message: {}", body);
+            return;
+        }
+        try {
+            addLocally(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed blacklist message: {}", body);
+        }
+    }
+
+    // 기동 시 Redis의 블랙리스트 키로 필터를 채움 (구독은 컨테이너 시작 시 이미 활성화됨)
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        long start = System.currentTimeMillis();
+        int count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(keys.blacklistPattern()).count(SEED_BATCH_SIZE).build();
+
+        try {
+            RedisConnectionFactory connectionFactory = stringRedisTemplate.getRequiredConnectionFactory();
+            if (connectionFactory instanceof LettuceConnectionFactory lettuce && lettuce.isClusterAware()) {
+                count = seedCluster(connectionFactory, options);
+            } else {
+                count = seedStandalone(options);
+            }
+            seeded = true;
+            log.info("Blacklist bloom filter seeded with {} entries in {} ms ({} bytes, expected fpp {})",
+                    count, System.currentTimeMillis() - start, memoryBytes(), expectedFalsePositiveRate());
+        } catch (Exception e) {
+            // 시딩 실패 시 필터를 사용하지 않고 항상 Redis로 확인
+            log.error("Failed to seed blacklist bloom filter, falling back to Redis lookups", e);
+        }
+    }
+
+    private int seedStandalone(ScanOptions options) {
+        int count = 0;
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(SEED_BATCH_SIZE);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == SEED_BATCH_SIZE) {
+                    count += seedBatch(batch);
+                    batch.clear();
+                }
+            }
+            count += seedBatch(batch);
+        }
+        return count;
+    }
+
+    // 블랙리스트 키는 해시 태그가 없어 모든 마스터에 흩어져 있으므로 마스터마다 스캔하고 PTTL은 키 단위로 조회
+    private int seedCluster(RedisConnectionFactory connectionFactory, ScanOptions options) {
+        int count = 0;
+        try (RedisClusterConnection connection = connectionFactory.getClusterConnection()) {
+            for (RedisClusterNode node : AuthStateMigration.masters(connection)) {
+                try (Cursor<byte[]> cursor = connection.scan(node, options)) {
+                    while (cursor.hasNext()) {
+                        byte[] key = cursor.next();
+                        Long ttl = connection.keyCommands().pTtl(key);
+                        if (ttl != null && ttl > 0) {
+                            addLocally(keys.jtiOfBlacklist(new String(key, StandardCharsets.UTF_8)), System.currentTimeMillis() + ttl);
+                            count++;
+                        }
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private int seedBatch(List<String> blacklistKeys) {
+        if (blacklistKeys.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> ttls = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : blacklistKeys) {
+                connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        long now = System.currentTimeMillis();
+        int count = 0;
+        for (int i = 0; i < blacklistKeys.size(); i++) {
+            if (ttls.get(i) instanceof Long ttl && ttl > 0) {
+                addLocally(keys.jtiOfBlacklist(blacklistKeys.get(i)), now + ttl);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public long memoryBytes() {
+        return (long) generations.size() * (bitsPerGeneration / 8);
+    }
+
+    public long insertions() {
+        long total = 0;
+        for (Generation generation : generations.values()) {
+            total += generation.insertions.get();
+        }
+        return total;
+    }
+
+    // 살아있는 모든 세대를 조회할 때의 예상 오탐률: 1 - Π(1 - p_i)
+    public double expectedFalsePositiveRate() {
+        double negative = 1.0;
+        for (Generation generation : generations.values()) {
+            double fill = 1 - Math.exp(-(double) hashFunctions * generation.insertions.get() / bitsPerGeneration);
+            negative *= 1 - Math.pow(fill, hashFunctions);
+        }
+        return 1 - negative;
+    }
+
+    // 64비트 FNV-1a 해시와 그 믹싱 결과로 이중 해싱
+    private static long[] hash(String value) {
+        long h1 = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h1 ^= value.charAt(i);
+            h1 *= 0x100000001b3L;
+        }
+        long h2 = h1;
+        h2 = (h2 ^ (h2 >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h2 = (h2 ^ (h2 >>> 27)) * 0x94d049bb133111ebL;
+        h2 = (h2 ^ (h2 >>> 31)) | 1L;
+        return new long[]{h1, h2};
+    }
+
+    private static final class Generation {
+        private final AtomicLongArray words;
+        private final int bits;
+        private final int hashFunctions;
+        private final AtomicLong insertions = new AtomicLong();
+
+        Generation(int bits, int hashFunctions) {
+            this.words = new AtomicLongArray((bits + 63) / 64);
+            this.bits = bits;
+            this.hashFunctions = hashFunctions;
+        }
+
+        void put(long[] hashes) {
+            for (int i = 0; i < hashFunctions; i++) {
+                int index = index(hashes, i);
+                long mask = 1L << index;
+                int word = index >>> 6;
+                long current;
+                do {
+                    current = words.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, current, current | mask));
+            }
+            insertions.incrementAndGet();
+        }
+
+        boolean mightContain(long[] hashes) {
+            for (int i = 0; i < hashFunctions; i++) {
+                int index = index(hashes, i);
+                if ((words.get(index >>> 6) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int index(long[] hashes, int i) {
+            return (int) Math.floorMod(hashes[0] + i * hashes[1], (long) bits);
+        }
+    }
+}
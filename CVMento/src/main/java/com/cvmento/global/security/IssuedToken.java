@@ -0,0 +1,23 @@
+package com.cvmento.global.security;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 발급 시점에 이미 알고 있는 클레임을 토큰과 함께 반환 (발급 직후 다시 파싱하지 않기 위함)
+// 시각은 JWT에 기록되는 값과 같도록 초 단위로 절삭됨
+public record IssuedToken(
+        String token,
+        String jti,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+    public LocalDateTime expirationAsLocalDateTime() {
+        return LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault());
+    }
+
+    // Redis TTL 계산용 (남은 시간, 초)
+    public long secondsToExpiry() {
+        return Math.max(0, expiresAt.getEpochSecond() - Instant.now().getEpochSecond());
+    }
+}
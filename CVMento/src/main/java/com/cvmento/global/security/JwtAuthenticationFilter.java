@@ -1,8 +1,11 @@
 package com.cvmento.global.security;
 
+import com.cvmento.domain.auth.enums.SessionVerdict;
+import com.cvmento.domain.member.dto.MemberPrincipal;
+import com.cvmento.global.common.util.AuthCookies;
 import com.cvmento.global.common.util.CookieUtil;
-import com.cvmento.domain.member.entity.Member;
-import com.cvmento.domain.member.repository.MemberRepository;
+import com.cvmento.global.config.SecurityConfig;
+import com.cvmento.global.exception.AuthErrorCode;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,28 +15,54 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Component
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final TokenService tokenService;
-    private final MemberRepository memberRepository;
+    private final ResilientSessionChecker sessionChecker;
+    private final MemberPrincipalCache memberPrincipalCache;
     private final CookieUtil cookieUtil;
+    private final AuthObservations observations;
+    private final MemberActivityBuffer memberActivityBuffer;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     public JwtAuthenticationFilter(JwtUtil jwtUtil,
-                                   TokenService tokenService,
-                                   MemberRepository memberRepository,
-                                   CookieUtil cookieUtil) {
+                                   ResilientSessionChecker sessionChecker,
+                                   MemberPrincipalCache memberPrincipalCache,
+                                   CookieUtil cookieUtil,
+                                   AuthObservations observations,
+                                   MemberActivityBuffer memberActivityBuffer) {
         this.jwtUtil = jwtUtil;
-        this.tokenService = tokenService;
-        this.memberRepository = memberRepository;
+        this.sessionChecker = sessionChecker;
+        this.memberPrincipalCache = memberPrincipalCache;
         this.cookieUtil = cookieUtil;
+        this.observations = observations;
+        this.memberActivityBuffer = memberActivityBuffer;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // 공개 경로는 토큰 검증 자체를 건너뜀
+        String path = request.getServletPath();
+        for (String pattern : SecurityConfig.PUBLIC_PATHS) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        for (String pattern : SecurityConfig.METRICS_PATHS) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -41,146 +70,158 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        // 쿠키에서 Access Token 추출
-        Optional<String> tokenOpt = cookieUtil.getAccessTokenFromCookies(request);
+        // 쿠키에서 Access Token과 Refresh Token을 한 번에 추출 (Refresh Token은 만료 분기에서 사용)
+        AuthCookies cookies = cookieUtil.readAuthCookies(request);
 
-        if (tokenOpt.isEmpty()) {
+        if (!cookies.hasAccessToken()) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String token = tokenOpt.get();
+        String token = cookies.accessToken();
 
         try {
-            // 1. 토큰이 블랙리스트에 있는지 확인
-            if (tokenService.isTokenBlacklisted(token)) {
-                log.debug("Token is blacklisted");
-                setUnauthorizedResponse(response, "TOKEN_BLACKLISTED", "로그아웃된 토큰입니다.", false);
-                return;
-            }
-
-            // 2. 토큰 기본 형식 검증
-            if (!jwtUtil.isValidToken(token)) {
+            // 1. 토큰 서명 검증 및 클레임 파싱 (요청당 1회)
+            Optional<VerifiedToken> verifiedOpt = observations.stage("verify", () -> jwtUtil.verify(token));
+            if (verifiedOpt.isEmpty()) {
                 log.debug("Invalid token format");
                 cookieUtil.deleteAllAuthCookies(response);
-                setUnauthorizedResponse(response, "INVALID_TOKEN", "유효하지 않은 토큰 형식입니다.", false);
+                reject(AuthErrorCode.INVALID_TOKEN, request, response);
                 return;
             }
 
-            // 3. Access Token 타입 확인
-            if (!jwtUtil.isAccessToken(token)) {
+            VerifiedToken accessToken = verifiedOpt.get();
+
+            // 2. Access Token 타입 확인
+            if (!accessToken.isAccessToken()) {
                 log.debug("Not an access token");
-                setUnauthorizedResponse(response, "WRONG_TOKEN_TYPE", "Access Token이 아닙니다.", false);
+                reject(AuthErrorCode.WRONG_TOKEN_TYPE, request, response);
                 return;
             }
 
-            // 4. 토큰 만료 확인
-            if (jwtUtil.isTokenExpired(token)) {
+            // 3. 토큰 만료 확인
+            if (accessToken.isExpired()) {
                 log.debug("Access token expired");
-                handleExpiredAccessToken(request, response);
+                handleExpiredAccessToken(cookies, request, response);
                 return;
             }
 
-            // 5. 사용자 정보 확인
-            String userId = jwtUtil.extractUserId(token);
-            Optional<Member> memberOpt = memberRepository.findById(Long.parseLong(userId));
+            // 4. 블랙리스트 및 사용자 세션 검증(Redis)을 비동기로 시작하고 그동안 사용자 정보 조회
+            // Redis 장애 시에는 로컬 기록과 장애 정책으로 판정됨
+            String userId = accessToken.subject();
+            // session 단계는 Redis 응답까지의 시간, session_wait 단계는 회원 조회 후 남은 대기 시간
+            CompletableFuture<SessionVerdict> verdictFuture =
+                    observations.stageAsync("session", () -> sessionChecker.checkSession(accessToken));
+            Optional<MemberPrincipal> memberOpt = observations.stage("member", () -> memberPrincipalCache.findById(Long.parseLong(userId)));
+            SessionVerdict verdict = observations.stage("session_wait", verdictFuture::join);
+
+            if (verdict == SessionVerdict.TOKEN_BLACKLISTED) {
+                log.debug("Token is revoked");
+                reject(AuthErrorCode.TOKEN_BLACKLISTED, request, response);
+                return;
+            }
+
+            if (verdict == SessionVerdict.SESSION_INVALID) {
+                log.debug("User session is not valid: {}", userId);
+                reject(AuthErrorCode.SESSION_INVALID, request, response);
+                return;
+            }
 
+            if (verdict == SessionVerdict.UNAVAILABLE) {
+                log.debug("Session state unavailable for user: {}", userId);
+                reject(AuthErrorCode.AUTH_UNAVAILABLE, request, response);
+                return;
+            }
+
+            // 5. 사용자 정보 확인
             if (memberOpt.isEmpty()) {
                 log.debug("User not found for ID: {}", userId);
                 cookieUtil.deleteAllAuthCookies(response);
-                setUnauthorizedResponse(response, "USER_NOT_FOUND", "사용자를 찾을 수 없습니다.", false);
+                reject(AuthErrorCode.USER_NOT_FOUND, request, response);
                 return;
             }
 
-            Member member = memberOpt.get();
+            MemberPrincipal member = memberOpt.get();
 
             // 6. 사용자 활성 상태 확인
             if (!member.isActive()) {
                 log.debug("User is not active: {}", userId);
-                setUnauthorizedResponse(response, "USER_DEACTIVATED", "비활성화된 계정입니다.", false);
+                reject(AuthErrorCode.USER_DEACTIVATED, request, response);
                 return;
             }
 
-            // 7. 사용자 세션 유효성 검증
-            if (!tokenService.isUserSessionValid(userId)) {
-                log.debug("User session is not valid: {}", userId);
-                setUnauthorizedResponse(response, "SESSION_INVALID", "세션이 유효하지 않습니다.", false);
-                return;
-            }
-
-            // 8. 정상 인증 처리
+            // 7. 정상 인증 처리
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
                             member,
                             null,
-                            member.getRole().getAuthorities()
+                            member.getAuthorities()
                     );
 
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
+            // 활동 시각은 모아서 주기적으로 반영 (요청 처리 중에는 DB/Redis에 쓰지 않음)
+            memberActivityBuffer.record(member.memberId(), accessToken.deviceId());
+
             log.debug("Successfully authenticated user: {}", userId);
 
         } catch (Exception e) {
             log.error("JWT authentication failed", e);
             SecurityContextHolder.clearContext();
-            setUnauthorizedResponse(response, "AUTHENTICATION_ERROR", "인증 처리 중 오류가 발생했습니다.", false);
+            reject(AuthErrorCode.AUTHENTICATION_ERROR, request, response);
             return;
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private void handleExpiredAccessToken(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    private void handleExpiredAccessToken(AuthCookies cookies, HttpServletRequest request, HttpServletResponse response) throws IOException {
         // Refresh Token 존재 여부 확인
-        Optional<String> refreshTokenOpt = cookieUtil.getRefreshTokenFromCookies(request);
-
-        if (refreshTokenOpt.isEmpty()) {
+        if (!cookies.hasRefreshToken()) {
             cookieUtil.deleteAllAuthCookies(response);
-            setUnauthorizedResponse(response, "NO_REFRESH_TOKEN", "세션이 만료되었습니다. 다시 로그인해주세요.", false);
+            reject(AuthErrorCode.NO_REFRESH_TOKEN, request, response);
             return;
         }
 
-        String refreshToken = refreshTokenOpt.get();
-
         // Refresh Token 유효성 검증
-        if (!jwtUtil.isValidToken(refreshToken) || !jwtUtil.isRefreshToken(refreshToken)) {
+        Optional<VerifiedToken> refreshTokenVerified = observations.stage("verify_refresh", () -> jwtUtil.verify(cookies.refreshToken()));
+        if (refreshTokenVerified.isEmpty() || !refreshTokenVerified.get().isRefreshToken()) {
             log.debug("Invalid refresh token");
             cookieUtil.deleteAllAuthCookies(response);
-            setUnauthorizedResponse(response, "INVALID_REFRESH_TOKEN", "세션이 만료되었습니다. 다시 로그인해주세요.", false);
+            reject(AuthErrorCode.INVALID_REFRESH_TOKEN, request, response);
             return;
         }
 
-        if (jwtUtil.isTokenExpired(refreshToken)) {
+        VerifiedToken refreshToken = refreshTokenVerified.get();
+
+        if (refreshToken.isExpired()) {
             log.debug("Refresh token expired");
             cookieUtil.deleteAllAuthCookies(response);
-            setUnauthorizedResponse(response, "REFRESH_TOKEN_EXPIRED", "세션이 만료되었습니다. 다시 로그인해주세요.", false);
+            reject(AuthErrorCode.REFRESH_TOKEN_EXPIRED, request, response);
+            return;
+        }
+
+        // Refresh Token이 유효한 경우 - 해당 기기의 세션이 남아있으면 Access Token 갱신 필요
+        SessionVerdict verdict = observations.stageAsync("device_session", () -> sessionChecker.checkDeviceSession(refreshToken)).join();
+        if (verdict == SessionVerdict.UNAVAILABLE) {
+            reject(AuthErrorCode.AUTH_UNAVAILABLE, request, response);
             return;
         }
 
-        // Refresh Token이 유효한 경우 - Access Token 갱신 필요
-        String userId = jwtUtil.extractUserId(refreshToken);
-        if (!tokenService.isUserSessionValid(userId)) {
-            log.debug("User session is not valid for refresh");
+        if (verdict != SessionVerdict.VALID) {
+            log.debug("Device session is not valid for refresh");
             cookieUtil.deleteAllAuthCookies(response);
-            setUnauthorizedResponse(response, "SESSION_EXPIRED", "세션이 만료되었습니다. 다시 로그인해주세요.", false);
+            reject(AuthErrorCode.SESSION_EXPIRED, request, response);
             return;
         }
 
         // Access Token만 만료되고 Refresh Token은 유효한 경우
-        setUnauthorizedResponse(response, "ACCESS_TOKEN_EXPIRED", "Access Token이 만료되었습니다.", true);
+        reject(AuthErrorCode.ACCESS_TOKEN_EXPIRED, request, response);
     }
 
-    private void setUnauthorizedResponse(HttpServletResponse response, String errorCode, String message, boolean canRetry) throws IOException {
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.setContentType("application/json;charset=UTF-8");
-        response.setCharacterEncoding("UTF-8");
-
-        String jsonResponse = String.format(
-                "{\"success\":false,\"errorCode\":\"%s\",\"message\":\"%s\",\"canRetry\":%b,\"timestamp\":%d}",
-                errorCode, message, canRetry, System.currentTimeMillis()
-        );
-
-        response.getWriter().write(jsonResponse);
+    private void reject(AuthErrorCode code, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        observations.rejected(code);
+        code.writeFilterRejection(request, response);
     }
-}
\ No newline at end of file
+}
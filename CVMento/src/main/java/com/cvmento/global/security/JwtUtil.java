@@ -8,15 +8,20 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Component
 public class JwtUtil {
 
     private final SecretKey key;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
     @Getter
     private final long accessTokenExpirationTime;
     @Getter
@@ -24,33 +29,62 @@ public class JwtUtil {
 
     public JwtUtil(@Value("${jwt.secret}") String secret,
                    @Value("${jwt.access-token-expiration}") long accessTokenExpirationTime,
-                   @Value("${jwt.refresh-token-expiration}") long refreshTokenExpirationTime) {
+                   @Value("${jwt.refresh-token-expiration}") long refreshTokenExpirationTime,
+                   VerifiedTokenCache verifiedTokenCache) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        // 파서는 불변이고 스레드 안전하므로 한 번만 생성해서 재사용
+        this.jwtParser = Jwts.parser().verifyWith(key).build();
         this.accessTokenExpirationTime = accessTokenExpirationTime;
         this.refreshTokenExpirationTime = refreshTokenExpirationTime;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
-    public String generateAccessToken(String userId, String email) {
-        return generateToken(userId, email, TokenType.ACCESS, accessTokenExpirationTime);
+    public String generateAccessToken(String userId, String email, String deviceId) {
+        return issueAccessToken(userId, email, deviceId).token();
     }
 
-    public String generateRefreshToken(String userId, String email) {
-        return generateToken(userId, email, TokenType.REFRESH, refreshTokenExpirationTime);
+    public String generateRefreshToken(String userId, String email, String deviceId) {
+        return issueRefreshToken(userId, email, deviceId).token();
     }
 
-    private String generateToken(String userId, String email, TokenType tokenType, long expirationTime) {
-        Date now = new Date();
-        Date expiration = new Date(now.getTime() + expirationTime);
+    public IssuedToken issueAccessToken(String userId, String email, String deviceId) {
+        return issueToken(userId, email, deviceId, TokenType.ACCESS, accessTokenExpirationTime);
+    }
+
+    public IssuedToken issueRefreshToken(String userId, String email, String deviceId) {
+        return issueToken(userId, email, deviceId, TokenType.REFRESH, refreshTokenExpirationTime);
+    }
+
+    private IssuedToken issueToken(String userId, String email, String deviceId, TokenType tokenType, long expirationTime) {
+        // JWT의 iat/exp는 초 단위로 기록되므로 미리 절삭해 반환값과 토큰의 클레임을 일치시킴
+        // 폐기 기준 시각 비교용 발급 시각은 ver 클레임에 ms 단위로 따로 기록
+        long nowMillis = System.currentTimeMillis();
+        Instant issuedAt = Instant.ofEpochSecond(nowMillis / 1000);
+        Instant expiresAt = Instant.ofEpochSecond((nowMillis + expirationTime) / 1000);
+        String jti = randomId();
 
-        return Jwts.builder()
+        String token = Jwts.builder()
                 .subject(userId)
                 .claim("email", email)
                 .claim("type", tokenType.getType())
-                .claim("jti", UUID.randomUUID().toString())
-                .issuedAt(now)
-                .expiration(expiration)
+                .claim("jti", jti)
+                .claim("did", deviceId)
+                .claim("ver", nowMillis)
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(expiresAt))
                 .signWith(key)
                 .compact();
+
+        return new IssuedToken(token, jti, issuedAt, expiresAt);
+    }
+
+    // 스레드별 난수 생성기로 만든 UUID v4 문자열 (공유 SecureRandom의 경합을 피함)
+    // jti와 기기 ID는 서명된 토큰 안에서만 쓰이는 식별자이므로 예측 불가능성이 필요하지 않음
+    static String randomId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long leastSigBits = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
     }
 
     public String extractUserId(String token) {
@@ -85,11 +119,23 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    // 서명 검증과 클레임 파싱을 한 번에 수행 (설정 시 검증 결과 캐시를 먼저 조회)
+    // 만료된 토큰은 서명이 유효한 경우 만료 분기 처리를 위해 클레임을 그대로 반환
+    public Optional<VerifiedToken> verify(String token) {
+        return verifiedTokenCache.verify(token, this::parseAndVerify);
+    }
+
+    private Optional<VerifiedToken> parseAndVerify(String token) {
+        try {
+            return Optional.of(VerifiedToken.of(token, extractAllClaims(token)));
+        } catch (ExpiredJwtException e) {
+            return Optional.of(VerifiedToken.of(token, e.getClaims()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     public boolean isTokenExpired(String token) {
@@ -0,0 +1,156 @@
+package com.cvmento.global.security;
+
+import com.cvmento.global.config.MemberActivityProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// 인증된 요청의 활동 시각을 메모리에 모아 주기적으로 일괄 기록 (write-behind)
+// 요청마다 DB/Redis에 쓰지 않도록 같은 기기의 활동은 max-staleness 동안 한 번만 기록하고,
+// 회원별로 가장 최근 시각만 남겨 members.last_login_at은 JDBC 배치, 세션 Hash는 스크립트로 반영
+@Component
+@Slf4j
+class MemberActivityBuffer {
+
+    private static final String UPDATE_LAST_LOGIN_AT =
+            "UPDATE members SET last_login_at = ? WHERE member_id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private final MemberActivityProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TokenService tokenService;
+    // 최근 기록한 기기 (max-staleness 동안 같은 기기의 활동은 다시 모으지 않음)
+    private final Cache<SessionKey, Boolean> recentlyRecorded;
+    private final ConcurrentMap<Long, Long> pendingMembers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<SessionKey, Long> pendingSessions = new ConcurrentHashMap<>();
+    private final Counter droppedCounter;
+
+    MemberActivityBuffer(MemberActivityProperties properties,
+                         JdbcTemplate jdbcTemplate,
+                         TokenService tokenService,
+                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tokenService = tokenService;
+        this.recentlyRecorded = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, properties.getMaxPending()))
+                .expireAfterWrite(properties.getMaxStaleness())
+                .build();
+
+        Gauge.builder("member.activity.pending", pendingSessions, Map::size)
+                .description("반영 대기 중인 기기 세션 활동 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("member.activity.dropped")
+                .description("대기 한도 초과로 버린 활동 수")
+                .register(meterRegistry);
+    }
+
+    void record(Long memberId, String deviceId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        SessionKey key = new SessionKey(memberId, deviceId);
+        if (recentlyRecorded.getIfPresent(key) != null) {
+            return;
+        }
+        if (pendingSessions.size() >= properties.getMaxPending()) {
+            // 기록 완료로 표시하지 않으므로 한도가 풀리면 다음 요청에서 다시 모음
+            droppedCounter.increment();
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        pendingMembers.merge(memberId, now, Math::max);
+        pendingSessions.merge(key, now, Math::max);
+        // 대기열에 넣은 뒤에만 표시 (동시 요청이 함께 넣어도 같은 키로 합쳐짐)
+        recentlyRecorded.put(key, Boolean.TRUE);
+    }
+
+    @Scheduled(fixedDelayString = "#{@memberActivityProperties.flushInterval.toMillis()}",
+            initialDelayString = "#{@memberActivityProperties.flushInterval.toMillis()}")
+    void flush() {
+        if (!pendingMembers.isEmpty()) {
+            flushMembers(drain(pendingMembers));
+        }
+        if (!pendingSessions.isEmpty()) {
+            flushSessions(drain(pendingSessions));
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        if (properties.isFlushOnShutdown()) {
+            flush();
+        }
+    }
+
+    private void flushMembers(List<Map.Entry<Long, Long>> activities) {
+        // 여러 노드가 동시에 반영할 때 행 잠금 순서를 맞춰 교착 상태를 피함
+        activities.sort(Map.Entry.comparingByKey());
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_AT, activities, properties.getBatchSize(), (ps, activity) -> {
+                Timestamp time = Timestamp.valueOf(toLocalDateTime(activity.getValue()));
+                ps.setTimestamp(1, time);
+                ps.setLong(2, activity.getKey());
+                ps.setTimestamp(3, time);
+            });
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도 (그 사이 들어온 더 최근 시각이 있으면 그 값 유지)
+            log.warn("Failed to flush last login time for {} members", activities.size(), e);
+            activities.forEach(activity -> pendingMembers.merge(activity.getKey(), activity.getValue(), Math::max));
+        }
+    }
+
+    private void flushSessions(List<Map.Entry<SessionKey, Long>> activities) {
+        int failed = 0;
+        for (Map.Entry<SessionKey, Long> activity : activities) {
+            SessionKey key = activity.getKey();
+            try {
+                tokenService.touchSession(key.memberId().toString(), key.deviceId(), activity.getValue());
+            } catch (RuntimeException e) {
+                // 세션 활동 시각은 기기 목록 표시와 기기 수 제한 순서에만 쓰이므로 재시도하지 않음
+                failed++;
+            }
+        }
+        if (failed > 0) {
+            log.warn("Failed to update last activity for {} of {} device sessions", failed, activities.size());
+        }
+    }
+
+    // 반영 중에 같은 키로 더 최근 활동이 들어오면 지우지 않고 다음 주기에 반영
+    private static <K> List<Map.Entry<K, Long>> drain(ConcurrentMap<K, Long> pending) {
+        List<Map.Entry<K, Long>> drained = new ArrayList<>(pending.size());
+        for (Map.Entry<K, Long> entry : pending.entrySet()) {
+            K key = entry.getKey();
+            Long value = entry.getValue();
+            if (pending.remove(key, value)) {
+                drained.add(Map.entry(key, value));
+            }
+        }
+        return drained;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private record SessionKey(Long memberId, String deviceId) {
+    }
+}
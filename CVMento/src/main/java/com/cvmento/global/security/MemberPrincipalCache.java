@@ -0,0 +1,119 @@
+package com.cvmento.global.security;
+
+import com.cvmento.domain.member.dto.MemberPrincipal;
+import com.cvmento.domain.member.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// 인증 필터에서 매 요청마다 DB를 조회하지 않도록 인증 사용자 정보(MemberPrincipal)를 노드 로컬에 캐싱
+// 회원 상태/권한/프로필 변경 시 Redis Pub/Sub으로 다른 노드의 캐시도 무효화
+@Component
+@Slf4j
+public class MemberPrincipalCache implements MessageListener {
+
+    private static final String CACHE_NAME = "member-principal";
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String invalidationChannel;
+    private final AsyncCache<Long, MemberPrincipal> cache;
+
+    public MemberPrincipalCache(MemberRepository memberRepository,
+                                StringRedisTemplate stringRedisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                MeterRegistry meterRegistry,
+                                @Value("${auth.member-cache.max-size:10000}") long maxSize,
+                                @Value("${auth.member-cache.ttl:30s}") Duration ttl,
+                                @Value("${redis.channels.member-invalidation:member-invalidation}") String invalidationChannel) {
+        this.memberRepository = memberRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.invalidationChannel = invalidationChannel;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+
+        // cache.gets{result=hit|miss}, cache.size, cache.evictions 등으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        listenerContainer.addMessageListener(this, new ChannelTopic(invalidationChannel));
+    }
+
+    public Optional<MemberPrincipal> findById(Long memberId) {
+        CompletableFuture<MemberPrincipal> member = cache.getIfPresent(memberId);
+        if (member == null) {
+            // DB 조회를 캐시 내부 잠금(ConcurrentHashMap.compute의 synchronized) 밖에서 수행해 가상 스레드 피닝을 피함
+            // 같은 회원을 동시에 조회하는 요청은 먼저 등록된 조회 결과를 기다림
+            CompletableFuture<MemberPrincipal> loading = new CompletableFuture<>();
+            member = cache.asMap().putIfAbsent(memberId, loading);
+            if (member == null) {
+                member = loading;
+                load(memberId, loading);
+            }
+        }
+        return Optional.ofNullable(member.join());
+    }
+
+    private void load(Long memberId, CompletableFuture<MemberPrincipal> loading) {
+        try {
+            // 존재하지 않는 회원은 캐싱하지 않음 (null로 완료된 항목은 캐시에서 제거됨)
+            loading.complete(memberRepository.findPrincipalById(memberId).orElse(null));
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void invalidate(Long memberId) {
+        cache.synchronous().invalidate(memberId);
+
+        // 트랜잭션 안에서 변경된 경우 커밋 이후에 전파해야 다른 노드가 이전 값을 다시 읽지 않음
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishInvalidation(memberId);
+                }
+            });
+        } else {
+            publishInvalidation(memberId);
+        }
+    }
+
+    private void publishInvalidation(Long memberId) {
+        cache.synchronous().invalidate(memberId);
+        try {
+            stringRedisTemplate.convertAndSend(invalidationChannel, memberId.toString());
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 TTL 만료까지 이전 값을 사용
+            log.warn("Failed to publish member cache invalidation for ID: {}", memberId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            cache.synchronous().invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed member cache invalidation message: {}", body);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.cvmento.global.security;
+
+import com.cvmento.domain.member.entity.Member;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+// Member 변경이 DB에 반영될 때 인증 캐시를 무효화하는 JPA 엔티티 리스너
+// EntityManagerFactory 생성 시점의 순환 참조를 피하기 위해 캐시는 지연 조회
+@Component
+public class MemberPrincipalInvalidationListener {
+
+    private final ObjectProvider<MemberPrincipalCache> memberPrincipalCache;
+
+    public MemberPrincipalInvalidationListener(ObjectProvider<MemberPrincipalCache> memberPrincipalCache) {
+        this.memberPrincipalCache = memberPrincipalCache;
+    }
+
+    @PostUpdate
+    public void onUpdate(Member member) {
+        // 상태/권한/프로필이 바뀐 경우에만 무효화 (로그인 시간 갱신 등은 제외)
+        if (member.isPrincipalChanged()) {
+            memberPrincipalCache.getObject().invalidate(member.getMemberId());
+            member.clearPrincipalChanged();
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Member member) {
+        memberPrincipalCache.getObject().invalidate(member.getMemberId());
+    }
+}
@@ -2,8 +2,7 @@ package com.cvmento.global.security;
 
 import com.cvmento.domain.auth.dto.TokenDto;
 import com.cvmento.global.common.util.CookieUtil;
-import com.cvmento.domain.member.entity.Member;
-import com.cvmento.domain.member.repository.MemberRepository;
+import com.cvmento.domain.member.service.MemberService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -14,23 +13,21 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.Map;
-import java.util.Optional;
 
 @Component
 @Slf4j
 public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final TokenService tokenService;
-    private final MemberRepository memberRepository;
+    private final MemberService memberService;
     private final CookieUtil cookieUtil;
 
     public OAuth2SuccessHandler(TokenService tokenService,
-                                MemberRepository memberRepository,
+                                MemberService memberService,
                                 CookieUtil cookieUtil) {
         this.tokenService = tokenService;
-        this.memberRepository = memberRepository;
+        this.memberService = memberService;
         this.cookieUtil = cookieUtil;
     }
 
@@ -51,11 +48,12 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         log.info("OAuth2 login attempt for user: {}", email);
 
         try {
-            // 사용자 조회 또는 생성
-            Member member = findOrCreateUser(googleId, email, name, picture);
+            // 사용자 생성 또는 갱신 (단일 upsert)
+            Long memberId = memberService.upsertGoogleMember(googleId, email, name, picture);
 
             // JWT 토큰 생성
-            TokenDto tokenDto = tokenService.generateTokens(member.getMemberId().toString(), member.getEmail());
+            TokenDto tokenDto = tokenService.generateTokens(memberId.toString(), email,
+                    request.getHeader("User-Agent"));
 
             // HttpOnly 쿠키로 토큰 설정
             cookieUtil.addAccessTokenCookie(response, tokenDto.accessToken(),
@@ -63,7 +61,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
             cookieUtil.addRefreshTokenCookie(response, tokenDto.refreshToken(),
                     Duration.ofMillis(tokenService.getJwtUtil().getRefreshTokenExpirationTime()));
 
-            log.info("Successfully authenticated user: {} (ID: {})", email, member.getMemberId());
+            log.info("Successfully authenticated user: {} (ID: {})", email, memberId);
 
             // 프론트엔드로 리다이렉트
             String redirectUrl = "http://localhost:3000/auth/callback?success=true";
@@ -74,32 +72,4 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
             response.sendRedirect("http://localhost:3000/auth/callback?error=true");
         }
     }
-
-    private Member findOrCreateUser(String googleId, String email, String name, String picture) {
-        Optional<Member> existingUser = memberRepository.findByGoogleId(googleId);
-
-        if (existingUser.isPresent()) {
-            // 기존 사용자 정보 업데이트
-            Member member = existingUser.get();
-            member.updateProfile(name, picture);
-            member.updateLastLoginAt(LocalDateTime.now()); // 로그인 시간 업데이트
-
-            // 비활성 상태였다면 다시 활성화
-            if (!member.isActive()) {
-                member.activate();
-                log.info("Reactivated user: {}", email);
-            }
-
-            return memberRepository.save(member);
-        } else {
-            // 새 사용자 생성
-            Member newUser = new Member(googleId, email, name, picture);
-            newUser.updateLastLoginAt(LocalDateTime.now()); // 첫 로그인 시간 설정
-
-            Member savedUser = memberRepository.save(newUser);
-            log.info("Created new user: {} (ID: {})", email, savedUser.getMemberId());
-
-            return savedUser;
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,198 @@
+package com.cvmento.global.security;
+
+import com.cvmento.domain.auth.dto.TokenDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 같은 Refresh Token으로 동시에 들어온 갱신 요청을 한 번의 갱신으로 합침 (여러 탭이 동시에 만료를 감지하는 경우)
+// 노드 안에서는 진행 중인 갱신을 공유하고 (Redis 조회 없음),
+// 노드 간에는 회전에 성공한 요청(status 1)이 결과를 짧은 TTL의 Redis 키에 남기고 Pub/Sub으로 알림
+// 공유 결과는 회전 스크립트의 유예 시간 검사를 통과한 요청(status 2)에게만 전달되므로 재사용 탐지를 우회하지 않음
+@Component
+@Slf4j
+public class RefreshSingleFlight implements MessageListener {
+
+    private static final String SEPARATOR = "\n";
+
+    private final StringRedisTemplate redisTemplate;
+    private final AuthRedisKeys keys;
+    private final String channel;
+    private final boolean enabled;
+    private final Duration resultTtl;
+    private final long awaitMillis;
+
+    // key: 제시된 Refresh Token의 JTI
+    private final ConcurrentMap<String, CompletableFuture<TokenDto>> inFlight = new ConcurrentHashMap<>();
+    // key: 갱신 결과 키, 결과 기록 알림을 받으면 완료
+    private final ConcurrentMap<String, CompletableFuture<Void>> waiters = new ConcurrentHashMap<>();
+
+    private final Counter localCoalescedCounter;
+    private final Counter sharedCoalescedCounter;
+
+    public RefreshSingleFlight(@Qualifier("authStringRedisTemplate") StringRedisTemplate redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               AuthRedisKeys keys,
+                               MeterRegistry meterRegistry,
+                               @Value("${auth.refresh.single-flight.enabled:true}") boolean enabled,
+                               @Value("${auth.refresh.single-flight.result-ttl:5s}") Duration resultTtl,
+                               @Value("${auth.refresh.single-flight.await:100ms}") Duration await,
+                               @Value("${redis.channels.refresh-result:refresh-result}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.keys = keys;
+        this.channel = channel;
+        this.enabled = enabled;
+        this.resultTtl = resultTtl;
+        this.awaitMillis = await.toMillis();
+
+        this.localCoalescedCounter = Counter.builder("auth.refresh.coalesced")
+                .tag("scope", "local")
+                .description("같은 노드의 진행 중인 갱신 결과를 받은 요청 수")
+                .register(meterRegistry);
+        this.sharedCoalescedCounter = Counter.builder("auth.refresh.coalesced")
+                .tag("scope", "shared")
+                .description("다른 노드가 회전한 갱신 결과를 받은 요청 수")
+                .register(meterRegistry);
+
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+        }
+    }
+
+    // 같은 노드에서 진행 중인 갱신이 있으면 그 결과를, 없으면 직접 갱신
+    public TokenDto execute(VerifiedToken refreshToken, Supplier<TokenDto> refresher) {
+        if (!enabled) {
+            return refresher.get();
+        }
+
+        CompletableFuture<TokenDto> mine = new CompletableFuture<>();
+        CompletableFuture<TokenDto> existing = inFlight.putIfAbsent(refreshToken.jti(), mine);
+        if (existing != null) {
+            localCoalescedCounter.increment();
+            return join(existing);
+        }
+
+        try {
+            TokenDto result = refresher.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(refreshToken.jti(), mine);
+        }
+    }
+
+    // 회전에 성공한 요청(status 1)의 결과를 공유하고 대기 중인 노드에 알림
+    public TokenDto share(VerifiedToken refreshToken, TokenDto result) {
+        if (!enabled) {
+            return result;
+        }
+
+        String key = keys.refreshResult(refreshToken.subject(), refreshToken.jti());
+        try {
+            redisTemplate.opsForValue().set(key, encode(result), resultTtl);
+            redisTemplate.convertAndSend(channel, key);
+        } catch (Exception e) {
+            // 공유 실패 시 동시 요청은 기존 Refresh Token을 유지한 채 Access Token만 새로 받음
+            log.warn("Failed to share refresh result for user ID: {}", refreshToken.subject(), e);
+        }
+        return result;
+    }
+
+    // 다른 노드가 이미 회전한 경우(status 2) 그 노드가 결과를 기록할 때까지 알림을 기다림 (최대 await)
+    public Optional<TokenDto> awaitShared(VerifiedToken refreshToken) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        String key = keys.refreshResult(refreshToken.subject(), refreshToken.jti());
+        CompletableFuture<Void> signal = new CompletableFuture<>();
+        CompletableFuture<Void> existing = waiters.putIfAbsent(key, signal);
+        CompletableFuture<Void> waiting = existing != null ? existing : signal;
+        try {
+            // 알림 등록 전에 이미 기록된 결과는 바로 사용
+            Optional<TokenDto> shared = findShared(key, refreshToken);
+            if (shared.isPresent()) {
+                return shared;
+            }
+            waiting.get(awaitMillis, TimeUnit.MILLISECONDS);
+            return findShared(key, refreshToken);
+        } catch (TimeoutException | ExecutionException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } finally {
+            if (existing == null) {
+                waiters.remove(key, signal);
+            }
+        }
+    }
+
+    private Optional<TokenDto> findShared(String key, VerifiedToken refreshToken) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            if (value == null) {
+                return Optional.empty();
+            }
+            sharedCoalescedCounter.increment();
+            return Optional.of(decode(value));
+        } catch (Exception e) {
+            log.warn("Failed to read shared refresh result for user ID: {}", refreshToken.subject(), e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CompletableFuture<Void> signal = waiters.get(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (signal != null) {
+            signal.complete(null);
+        }
+    }
+
+    private static TokenDto join(CompletableFuture<TokenDto> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // JWT에는 줄바꿈이 포함되지 않으므로 줄 단위로 저장
+    private static String encode(TokenDto tokenDto) {
+        return tokenDto.accessToken() + SEPARATOR + tokenDto.refreshToken() + SEPARATOR
+                + tokenDto.accessTokenExpiresAt() + SEPARATOR + tokenDto.refreshTokenExpiresAt();
+    }
+
+    private static TokenDto decode(String value) {
+        String[] parts = value.split(SEPARATOR, 4);
+        return TokenDto.of(parts[0], parts[1], LocalDateTime.parse(parts[2]), LocalDateTime.parse(parts[3]));
+    }
+}
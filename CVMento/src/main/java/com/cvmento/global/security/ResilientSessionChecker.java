@@ -0,0 +1,125 @@
+package com.cvmento.global.security;
+
+import com.cvmento.domain.auth.enums.DegradedAuthPolicy;
+import com.cvmento.domain.auth.enums.SessionVerdict;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 인증 필터의 Redis 세션 검증에 짧은 타임아웃과 서킷 브레이커 적용
+// 실패/지연이 임계치를 넘으면 Redis 호출 없이 로컬 기록(AuthStateFallbackStore)과 장애 정책으로 판정하고
+// 일정 시간 후 일부 요청으로 Redis를 다시 시험해 복구되면 자동으로 정상 경로로 전환
+// 필터의 세션 검증만 보호하며 토큰 갱신/로그인은 브레이커를 거치지 않음
+// (인증 커넥션의 짧은 명령 타임아웃으로 빠르게 실패해 갱신은 AUTH_UNAVAILABLE, 로그인은 오류 리다이렉트로 응답)
+@Component
+@Slf4j
+public class ResilientSessionChecker {
+
+    private static final String CIRCUIT_BREAKER_NAME = "redis-auth";
+
+    private final AsyncTokenService asyncTokenService;
+    private final AuthStateFallbackStore fallbackStore;
+    private final RevocationEpochStore revocationEpochStore;
+    private final CircuitBreaker circuitBreaker;
+    private final long timeoutMillis;
+    private final DegradedAuthPolicy policy;
+
+    public ResilientSessionChecker(AsyncTokenService asyncTokenService,
+                                   AuthStateFallbackStore fallbackStore,
+                                   RevocationEpochStore revocationEpochStore,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${auth.redis.timeout:250ms}") Duration timeout,
+                                   @Value("${auth.degraded.policy:FAIL_CLOSED}") DegradedAuthPolicy policy,
+                                   @Value("${auth.redis.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+                                   @Value("${auth.redis.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+                                   @Value("${auth.redis.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                                   @Value("${auth.redis.circuit-breaker.open-duration:5s}") Duration openDuration,
+                                   @Value("${auth.redis.circuit-breaker.half-open-calls:5}") int halfOpenCalls) {
+        this.asyncTokenService = asyncTokenService;
+        this.fallbackStore = fallbackStore;
+        this.revocationEpochStore = revocationEpochStore;
+        this.timeoutMillis = timeout.toMillis();
+        this.policy = policy;
+
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                // 타임아웃 직전까지 걸리는 호출도 느린 호출로 집계해 타임아웃 전에 차단되도록 함
+                .slowCallDurationThreshold(timeout.dividedBy(2))
+                .slowCallRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        this.circuitBreaker = registry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        this.circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Redis auth circuit breaker: {}", event.getStateTransition()));
+
+        // resilience4j.circuitbreaker.state, .calls 등으로 노출
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+    }
+
+    // 폐기 기준 시각 및 기기 세션 검증
+    public CompletableFuture<SessionVerdict> checkSession(VerifiedToken accessToken) {
+        return execute(() -> asyncTokenService.checkSession(accessToken).toCompletableFuture()
+                        .thenApply(verdict -> record(verdict, accessToken)),
+                e -> degradedVerdict(accessToken, e));
+    }
+
+    // Access Token 만료 시 Refresh 가능 여부 판단용 기기 세션 검증
+    public CompletableFuture<SessionVerdict> checkDeviceSession(VerifiedToken refreshToken) {
+        return execute(() -> asyncTokenService.isSessionValid(refreshToken).toCompletableFuture()
+                        .thenApply(valid -> record(Boolean.TRUE.equals(valid) ? SessionVerdict.VALID : SessionVerdict.SESSION_INVALID,
+                                refreshToken)),
+                e -> degradedVerdict(refreshToken, e));
+    }
+
+    private CompletableFuture<SessionVerdict> execute(Supplier<CompletableFuture<SessionVerdict>> call,
+                                                      Function<Throwable, SessionVerdict> fallback) {
+        return circuitBreaker.decorateCompletionStage(() -> call.get().orTimeout(timeoutMillis, TimeUnit.MILLISECONDS))
+                .get()
+                .toCompletableFuture()
+                .exceptionally(fallback);
+    }
+
+    // Redis에서 확인된 결과로만 로컬 기록을 갱신 (장애 시 판정 결과는 기록하지 않음)
+    private SessionVerdict record(SessionVerdict verdict, VerifiedToken token) {
+        switch (verdict) {
+            case VALID -> fallbackStore.sessionConfirmed(token.subject(), token.deviceId());
+            case SESSION_INVALID -> fallbackStore.sessionRevoked(token.subject(), token.deviceId());
+            case TOKEN_BLACKLISTED -> fallbackStore.tokenRevoked(token.jti(), token.expiration().getTime());
+            default -> {
+            }
+        }
+        return verdict;
+    }
+
+    private SessionVerdict degradedVerdict(VerifiedToken token, Throwable cause) {
+        String userId = token.subject();
+        log.debug("Redis auth check unavailable, using local state for user ID: {} ({})", userId, cause.toString());
+
+        boolean revoked = revocationEpochStore.cachedEpoch(userId)
+                .map(epoch -> RevocationEpochStore.isRevoked(token, epoch))
+                .orElse(false);
+        if (revoked || fallbackStore.isTokenRevoked(token.jti())) {
+            return SessionVerdict.TOKEN_BLACKLISTED;
+        }
+        if (fallbackStore.isSessionRecentlyValid(userId, token.deviceId())) {
+            return SessionVerdict.VALID;
+        }
+        return policy == DegradedAuthPolicy.FAIL_OPEN ? SessionVerdict.VALID : SessionVerdict.UNAVAILABLE;
+    }
+}
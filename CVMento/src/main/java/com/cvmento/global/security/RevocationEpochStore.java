@@ -0,0 +1,163 @@
+package com.cvmento.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// 사용자별 토큰 폐기 기준 시각(ms) - 이 시각 이전에 발급된 토큰은 모두 거부
+// 로그아웃 시 토큰마다 블랙리스트 키를 쓰는 대신 사용자당 키 하나만 갱신하므로 Redis 사용량이 토큰 수가 아닌 사용자 수에 비례
+// 노드 로컬 캐시에 보관하고 변경은 Redis Pub/Sub으로 다른 노드에 전파 (기준 시각이 없는 사용자는 0으로 캐싱)
+@Component
+@Slf4j
+public class RevocationEpochStore implements MessageListener {
+
+    private static final String CACHE_NAME = "revocation-epoch";
+    private static final long NO_EPOCH = 0L;
+    // 이 값보다 작은 기준 시각은 초 단위로 기록하던 이전 버전의 값 (2001년 이후의 ms 값은 항상 더 큼)
+    private static final long LEGACY_SECONDS_LIMIT = 1_000_000_000_000L;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final ReactiveStringRedisTemplate replicaReactiveRedisTemplate;
+    private final AuthObservations observations;
+    private final AuthRedisKeys keys;
+    private final String channel;
+    private final long ttlSeconds;
+    private final Cache<String, Long> cache;
+
+    public RevocationEpochStore(@Qualifier("authStringRedisTemplate") StringRedisTemplate redisTemplate,
+                                @Qualifier("authReactiveStringRedisTemplate") ReactiveStringRedisTemplate reactiveRedisTemplate,
+                                @Qualifier("replicaReactiveStringRedisTemplate") ReactiveStringRedisTemplate replicaReactiveRedisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                MeterRegistry meterRegistry,
+                                AuthObservations observations,
+                                AuthRedisKeys keys,
+                                @Value("${jwt.refresh-token-expiration}") long refreshTokenExpirationTime,
+                                @Value("${auth.revocation.epoch-cache.max-size:100000}") long maxSize,
+                                @Value("${auth.revocation.epoch-cache.ttl:1m}") Duration cacheTtl,
+                                @Value("${redis.channels.revocation-epoch:revocation-epoch}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.replicaReactiveRedisTemplate = replicaReactiveRedisTemplate;
+        this.observations = observations;
+        this.keys = keys;
+        this.channel = channel;
+        // Refresh Token 수명이 지나면 기준 시각 이전에 발급된 토큰은 모두 만료되므로 키도 함께 만료
+        this.ttlSeconds = Math.max(1, Duration.ofMillis(refreshTokenExpirationTime).toSeconds());
+        // 전파 메시지 유실에 대비해 TTL로 캐시 항목의 최대 지연을 제한
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    // 발급 시각은 ver 클레임(ms) 기준이므로 폐기 직후 같은 초에 다시 로그인해 받은 토큰은 거부하지 않음
+    public static boolean isRevoked(VerifiedToken token, long epochMillis) {
+        if (epochMillis == NO_EPOCH) {
+            return false;
+        }
+        return token.issuedAt() == null || token.issuedAt().getTime() < epochMillis;
+    }
+
+    // 이전 버전이 초 단위로 기록한 기준 시각 E는 "iat <= E 거부"였으므로 (E + 1)초로 변환하면 의미가 같음
+    static long toEpochMillis(long epoch) {
+        return epoch > NO_EPOCH && epoch < LEGACY_SECONDS_LIMIT ? (epoch + 1) * 1000 : epoch;
+    }
+
+    public CompletableFuture<Long> epochOf(String userId) {
+        Long cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return observations.redisAsync("get_revocation_epoch", () -> replicaReactiveRedisTemplate.opsForValue()
+                .get(keys.revocationEpoch(userId))
+                .map(value -> toEpochMillis(Long.parseLong(value)))
+                .defaultIfEmpty(NO_EPOCH)
+                .doOnNext(epoch -> remember(userId, epoch))
+                .toFuture());
+    }
+
+    public long epochOfBlocking(String userId) {
+        Long cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        String value = observations.redis("get_revocation_epoch", () -> redisTemplate.opsForValue().get(keys.revocationEpoch(userId)));
+        long epoch = value == null ? NO_EPOCH : toEpochMillis(Long.parseLong(value));
+        remember(userId, epoch);
+        return epoch;
+    }
+
+    // Redis 장애 시 로컬에 남아있는 값만 조회
+    public Optional<Long> cachedEpoch(String userId) {
+        return Optional.ofNullable(cache.getIfPresent(userId));
+    }
+
+    // 현재 시각 이전에 발급된 사용자의 모든 토큰을 폐기
+    public void revokeAll(String userId) {
+        AsyncResults.await(revokeAllAsync(userId));
+    }
+
+    // 적용된 폐기 기준 시각을 반환 (전파 실패 시 다른 노드는 캐시 TTL 이후 Redis에서 다시 읽음)
+    public CompletableFuture<Long> revokeAllAsync(String userId) {
+        long now = System.currentTimeMillis();
+        return reactiveRedisTemplate.execute(TokenRedisScripts.RAISE_REVOCATION_EPOCH,
+                        List.of(keys.revocationEpoch(userId)), List.of(String.valueOf(now), String.valueOf(ttlSeconds)))
+                .next()
+                .defaultIfEmpty(now)
+                .doOnNext(epoch -> remember(userId, epoch))
+                .flatMap(epoch -> reactiveRedisTemplate.convertAndSend(channel, message(userId, epoch))
+                        .onErrorResume(e -> {
+                            log.warn("Failed to publish revocation epoch for user ID: {}", userId, e);
+                            return Mono.just(0L);
+                        })
+                        .thenReturn(epoch))
+                .toFuture();
+    }
+
+    private static String message(String userId, long epoch) {
+        return userId + ":" + epoch;
+    }
+
+    // 동시에 도착한 조회 결과와 전파 메시지 중 더 큰 기준 시각만 유지
+    private void remember(String userId, long epoch) {
+        cache.asMap().merge(userId, epoch, Math::max);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator <= 0) {
+            log.warn("Ignoring malformed revocation epoch message: {}", body);
+            return;
+        }
+        try {
+            remember(body.substring(0, separator), toEpochMillis(Long.parseLong(body.substring(separator + 1))));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed revocation epoch message: {}", body);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.cvmento.global.security;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+// 토큰 관련 Redis Lua 스크립트 (EVALSHA로 실행되며 SHA는 최초 실행 시 계산됨)
+final class TokenRedisScripts {
+
+    static final RedisScript<Long> ISSUE_TOKENS = script("redis/issue-tokens.lua", Long.class);
+    static final RedisScript<Long> ROTATE_REFRESH_TOKEN = script("redis/rotate-refresh-token.lua", Long.class);
+    static final RedisScript<Long> MIGRATE_SESSION = script("redis/migrate-session.lua", Long.class);
+    static final RedisScript<Long> RAISE_REVOCATION_EPOCH = script("redis/raise-revocation-epoch.lua", Long.class);
+    static final RedisScript<Long> REVOKE_DEVICE = script("redis/revoke-device.lua", Long.class);
+    static final RedisScript<Long> TOUCH_SESSION = script("redis/touch-session.lua", Long.class);
+
+    private TokenRedisScripts() {
+    }
+
+    private static <T> RedisScript<T> script(String path, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(resultType);
+        return script;
+    }
+}
@@ -1,142 +1,257 @@
 package com.cvmento.global.security;
 
+import com.cvmento.domain.auth.dto.DeviceSessionDto;
 import com.cvmento.domain.auth.dto.TokenDto;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.Date;
-import java.util.concurrent.TimeUnit;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
+@Slf4j
 public class TokenService {
 
     @Getter
     private final JwtUtil jwtUtil;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final String refreshTokenPrefix;
-    private final String blacklistPrefix;
-    private final String userSessionPrefix;
+    private final StringRedisTemplate redisTemplate;
+    // 읽기 전용 조회용 (app.redis.replica-reads=true 이면 복제본에서 읽음)
+    private final StringRedisTemplate replicaRedisTemplate;
+    private final AsyncTokenService asyncTokenService;
+    private final AuthStateMigration authStateMigration;
+    private final RevocationEpochStore revocationEpochStore;
+    private final RefreshSingleFlight refreshSingleFlight;
+    private final AuthObservations observations;
+    private final AuthRedisKeys keys;
+    private final boolean replicaReads;
+    private final boolean refreshTokenRotationEnabled;
+    private final long refreshTokenReuseGraceMillis;
 
     public TokenService(JwtUtil jwtUtil,
-                        RedisTemplate<String, Object> redisTemplate,
-                        @Value("${redis.keys.refresh-token}") String refreshTokenPrefix,
-                        @Value("${redis.keys.blacklist}") String blacklistPrefix,
-                        @Value("${redis.keys.user-session}") String userSessionPrefix) {
+                        @Qualifier("authStringRedisTemplate") StringRedisTemplate redisTemplate,
+                        @Qualifier("replicaStringRedisTemplate") StringRedisTemplate replicaRedisTemplate,
+                        AsyncTokenService asyncTokenService,
+                        AuthStateMigration authStateMigration,
+                        RevocationEpochStore revocationEpochStore,
+                        RefreshSingleFlight refreshSingleFlight,
+                        AuthObservations observations,
+                        AuthRedisKeys keys,
+                        @Value("${app.redis.replica-reads:false}") boolean replicaReads,
+                        @Value("${auth.refresh-token.rotation-enabled:false}") boolean refreshTokenRotationEnabled,
+                        @Value("${auth.refresh-token.reuse-grace-period:10s}") Duration refreshTokenReuseGracePeriod) {
         this.jwtUtil = jwtUtil;
         this.redisTemplate = redisTemplate;
-        this.refreshTokenPrefix = refreshTokenPrefix;
-        this.blacklistPrefix = blacklistPrefix;
-        this.userSessionPrefix = userSessionPrefix;
+        this.replicaRedisTemplate = replicaRedisTemplate;
+        this.asyncTokenService = asyncTokenService;
+        this.authStateMigration = authStateMigration;
+        this.revocationEpochStore = revocationEpochStore;
+        this.refreshSingleFlight = refreshSingleFlight;
+        this.observations = observations;
+        this.keys = keys;
+        this.replicaReads = replicaReads;
+        this.refreshTokenRotationEnabled = refreshTokenRotationEnabled;
+        this.refreshTokenReuseGraceMillis = refreshTokenReuseGracePeriod.toMillis();
     }
 
-    public TokenDto generateTokens(String userId, String email) {
-        String accessToken = jwtUtil.generateAccessToken(userId, email);
-        String refreshToken = jwtUtil.generateRefreshToken(userId, email);
+    // 로그인한 기기마다 새 기기 ID로 세션을 추가 (다른 기기의 세션은 유지)
+    public TokenDto generateTokens(String userId, String email, String deviceName) {
+        return AsyncResults.await(asyncTokenService.issueTokens(userId, email, deviceName));
+    }
 
-        LocalDateTime accessTokenExpiresAt = jwtUtil.extractExpirationAsLocalDateTime(accessToken);
-        LocalDateTime refreshTokenExpiresAt = jwtUtil.extractExpirationAsLocalDateTime(refreshToken);
+    public TokenDto refreshAccessToken(VerifiedToken refreshToken) {
+        if (!refreshToken.isRefreshToken() || refreshToken.isExpired()) {
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
 
-        // Refresh Token을 Redis에 저장
-        storeRefreshToken(userId, refreshToken, refreshTokenExpiresAt);
+        String userId = refreshToken.subject();
+        String email = refreshToken.email();
 
-        // 사용자 세션 정보 저장
-        storeUserSession(userId, refreshToken);
+        if (RevocationEpochStore.isRevoked(refreshToken, revocationEpochStore.epochOfBlocking(userId))) {
+            throw new IllegalArgumentException("Refresh token revoked");
+        }
 
-        return TokenDto.of(accessToken, refreshToken, accessTokenExpiresAt, refreshTokenExpiresAt);
+        // 같은 Refresh Token의 동시 갱신은 한 번만 수행하고 모든 요청이 같은 결과를 받음
+        return refreshSingleFlight.execute(refreshToken, () -> refresh(userId, email, refreshToken));
     }
 
-    public TokenDto refreshAccessToken(String refreshToken) {
-        if (!jwtUtil.isValidToken(refreshToken) || !jwtUtil.isRefreshToken(refreshToken)) {
-            throw new IllegalArgumentException("Invalid refresh token");
+    private TokenDto refresh(String userId, String email, VerifiedToken refreshToken) {
+        if (refreshTokenRotationEnabled) {
+            return rotateRefreshToken(userId, email, refreshToken);
         }
 
-        String userId = jwtUtil.extractUserId(refreshToken);
-        String email = jwtUtil.extractEmail(refreshToken);
-
         // Redis에서 Refresh Token 검증
-        if (!isValidRefreshToken(userId, refreshToken)) {
+        if (!isValidRefreshToken(userId, refreshToken.deviceId(), refreshToken.jti())) {
             throw new IllegalArgumentException("Refresh token not found or expired");
         }
 
         // 새로운 Access Token 생성
-        String newAccessToken = jwtUtil.generateAccessToken(userId, email);
-        LocalDateTime accessTokenExpiresAt = jwtUtil.extractExpirationAsLocalDateTime(newAccessToken);
-        LocalDateTime refreshTokenExpiresAt = jwtUtil.extractExpirationAsLocalDateTime(refreshToken);
+        IssuedToken newAccessToken = jwtUtil.issueAccessToken(userId, email, refreshToken.deviceId());
 
-        return TokenDto.of(newAccessToken, refreshToken, accessTokenExpiresAt, refreshTokenExpiresAt);
+        // 회전하지 않으면 Refresh Token이 그대로이므로 노드 간 결과 공유 불필요
+        return TokenDto.of(newAccessToken.token(), refreshToken.token(),
+                newAccessToken.expirationAsLocalDateTime(), refreshToken.expirationAsLocalDateTime());
     }
 
-    public void logout(String userId, String accessToken, String refreshToken) {
-        // Access Token을 블랙리스트에 추가
-        blacklistToken(accessToken);
+    // 저장된 Refresh Token과 비교 후 교체, 재사용 탐지까지 하나의 스크립트(1회 왕복)로 처리
+    private TokenDto rotateRefreshToken(String userId, String email, VerifiedToken refreshToken) {
+        String deviceId = refreshToken.deviceId();
+        IssuedToken newRefreshToken = jwtUtil.issueRefreshToken(userId, email, deviceId);
+        long status = executeRotation(userId, deviceId, refreshToken.jti(), newRefreshToken);
+
+        // 이전 구조의 세션이면 변환 후 한 번 더 시도
+        if (status == 0L && deviceId == null && authStateMigration.migrateSession(userId) != null) {
+            status = executeRotation(userId, null, refreshToken.jti(), newRefreshToken);
+        }
+
+        if (status == -1L) {
+            // 탈취된 토큰으로 이미 발급된 Access Token까지 모두 폐기
+            raiseRevocationEpoch(userId);
+            log.warn("Rotated refresh token reused, revoked all sessions for user ID: {}", userId);
+            throw new IllegalArgumentException("Refresh token reuse detected");
+        }
+
+        if (status == 0L) {
+            throw new IllegalArgumentException("Refresh token not found or expired");
+        }
 
-        // Refresh Token을 블랙리스트에 추가
-        if (refreshToken != null) {
-            blacklistToken(refreshToken);
+        // status 2: 다른 노드의 동시 요청이 이미 회전함 - 그 결과가 공유되면 같은 토큰을 반환
+        // 공유되지 않았으면 새 Refresh Token 쿠키는 먼저 회전한 응답이 설정하므로 기존 토큰 유지
+        if (status == 2L) {
+            Optional<TokenDto> shared = refreshSingleFlight.awaitShared(refreshToken);
+            if (shared.isPresent()) {
+                return shared.get();
+            }
+            IssuedToken newAccessToken = jwtUtil.issueAccessToken(userId, email, deviceId);
+            return TokenDto.of(newAccessToken.token(), refreshToken.token(),
+                    newAccessToken.expirationAsLocalDateTime(), refreshToken.expirationAsLocalDateTime());
         }
 
-        // Redis에서 Refresh Token 삭제
-        removeRefreshToken(userId);
+        IssuedToken newAccessToken = jwtUtil.issueAccessToken(userId, email, deviceId);
 
-        // 사용자 세션 정보 삭제
-        removeUserSession(userId);
+        return refreshSingleFlight.share(refreshToken, TokenDto.of(newAccessToken.token(), newRefreshToken.token(),
+                newAccessToken.expirationAsLocalDateTime(), newRefreshToken.expirationAsLocalDateTime()));
     }
 
-    public boolean isTokenBlacklisted(String token) {
-        String jti = jwtUtil.extractJti(token);
-        return redisTemplate.hasKey(blacklistPrefix + jti);
+    private long executeRotation(String userId, String deviceId, String presentedJti, IssuedToken newRefreshToken) {
+        Long status = observations.redis("rotate_refresh_token", () -> redisTemplate.execute(TokenRedisScripts.ROTATE_REFRESH_TOKEN,
+                List.of(keys.userSession(userId), keys.userDevices(userId)),
+                presentedJti, newRefreshToken.jti(), String.valueOf(System.currentTimeMillis()),
+                String.valueOf(newRefreshToken.secondsToExpiry()), String.valueOf(refreshTokenReuseGraceMillis),
+                AuthRedisKeys.deviceSuffix(deviceId), deviceId == null ? "" : deviceId,
+                String.valueOf(newRefreshToken.expiresAt().toEpochMilli())));
+        return status == null ? 0L : status;
     }
 
-    private void storeRefreshToken(String userId, String refreshToken, LocalDateTime expiresAt) {
-        String key = refreshTokenPrefix + userId;
-        long ttl = Duration.between(LocalDateTime.now(), expiresAt).getSeconds();
-        redisTemplate.opsForValue().set(key, refreshToken, ttl, TimeUnit.SECONDS);
+    // 모든 기기에서 로그아웃 (제시된 토큰의 블랙리스트 등록 포함)
+    public void logout(String userId, VerifiedToken accessToken, VerifiedToken refreshToken) {
+        AsyncResults.await(asyncTokenService.logout(userId, accessToken, refreshToken));
     }
 
-    private void storeUserSession(String userId, String refreshToken) {
-        String key = userSessionPrefix + userId;
-        LocalDateTime expiresAt = jwtUtil.extractExpirationAsLocalDateTime(refreshToken);
-        long ttl = Duration.between(LocalDateTime.now(), expiresAt).getSeconds();
+    // 현재 기기만 로그아웃 (제시된 토큰의 블랙리스트 등록 포함)
+    public void logoutDevice(VerifiedToken accessToken, VerifiedToken refreshToken) {
+        AsyncResults.await(asyncTokenService.logoutDevice(accessToken, refreshToken));
+    }
 
-        redisTemplate.opsForHash().put(key, "refreshToken", refreshToken);
-        redisTemplate.opsForHash().put(key, "lastActivity", LocalDateTime.now().toString());
-        redisTemplate.expire(key, Duration.ofSeconds(ttl));
+    public void revokeToken(VerifiedToken token) {
+        AsyncResults.await(asyncTokenService.revokeToken(token));
     }
 
-    private boolean isValidRefreshToken(String userId, String refreshToken) {
-        String key = refreshTokenPrefix + userId;
-        String storedToken = (String) redisTemplate.opsForValue().get(key);
-        return refreshToken.equals(storedToken);
+    public boolean revokeSession(String userId, String deviceId) {
+        return AsyncResults.await(asyncTokenService.revokeSession(userId, deviceId));
     }
 
-    private void removeRefreshToken(String userId) {
-        String key = refreshTokenPrefix + userId;
-        redisTemplate.delete(key);
+    // 사용자의 모든 기기 로그아웃
+    public void logoutAll(String userId) {
+        AsyncResults.await(asyncTokenService.logoutAll(userId));
     }
 
-    private void removeUserSession(String userId) {
-        String key = userSessionPrefix + userId;
-        redisTemplate.delete(key);
+    // 기기 세션 목록 (기기 수와 관계없이 HGETALL 1회), 최근 사용한 기기 순
+    // Refresh Token이 만료된 기기는 Hash TTL이 다른 기기의 발급/회전으로 연장되어 남아 있을 수 있으므로 제외
+    // (실제 삭제는 다음 로그인의 발급 스크립트에서 처리)
+    public List<DeviceSessionDto> listSessions(String userId, String currentDeviceId) {
+        Map<Object, Object> fields = observations.redis("list_sessions",
+                () -> redisTemplate.opsForHash().entries(keys.userSession(userId)));
+        String refreshPrefix = AuthRedisKeys.FIELD_REFRESH_JTI + ":";
+        long now = System.currentTimeMillis();
+
+        List<DeviceSessionDto> sessions = new ArrayList<>();
+        for (Object field : fields.keySet()) {
+            String name = (String) field;
+            if (!name.startsWith(refreshPrefix)) {
+                continue;
+            }
+            String deviceId = name.substring(refreshPrefix.length());
+            Object expiresAt = fields.get(AuthRedisKeys.deviceField(AuthRedisKeys.FIELD_EXPIRES_AT, deviceId));
+            if (expiresAt != null && Long.parseLong((String) expiresAt) <= now) {
+                continue;
+            }
+            sessions.add(new DeviceSessionDto(
+                    deviceId,
+                    (String) fields.get(AuthRedisKeys.deviceField(AuthRedisKeys.FIELD_DEVICE_NAME, deviceId)),
+                    toLocalDateTime(fields.get(AuthRedisKeys.deviceField(AuthRedisKeys.FIELD_CREATED_AT, deviceId))),
+                    toLocalDateTime(fields.get(AuthRedisKeys.deviceField(AuthRedisKeys.FIELD_LAST_ACTIVITY, deviceId))),
+                    deviceId.equals(currentDeviceId)));
+        }
+        sessions.sort(Comparator.comparing(DeviceSessionDto::lastActivityAt,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+        return sessions;
     }
 
-    private void blacklistToken(String token) {
-        String jti = jwtUtil.extractJti(token);
-        Date expiration = jwtUtil.extractExpiration(token);
-        long ttl = expiration.getTime() - System.currentTimeMillis();
+    // 기기 세션의 마지막 활동 시각 갱신 (이미 삭제된 세션은 다시 만들지 않음)
+    boolean touchSession(String userId, String deviceId, long activityMillis) {
+        Long updated = observations.redis("touch_session", () -> redisTemplate.execute(TokenRedisScripts.TOUCH_SESSION,
+                List.of(keys.userSession(userId), keys.userDevices(userId)),
+                AuthRedisKeys.deviceSuffix(deviceId), String.valueOf(activityMillis), deviceId == null ? "" : deviceId));
+        return updated != null && updated > 0;
+    }
 
-        if (ttl > 0) {
-            String key = blacklistPrefix + jti;
-            redisTemplate.opsForValue().set(key, "blacklisted", ttl, TimeUnit.MILLISECONDS);
+    private boolean isValidRefreshToken(String userId, String deviceId, String refreshTokenJti) {
+        String key = keys.userSession(userId);
+        String field = refreshJtiField(deviceId);
+
+        // 복제본에서 일치하면 바로 통과, 불일치는 복제 지연일 수 있으므로 Primary에서 다시 확인
+        if (replicaReads && refreshTokenJti.equals(observations.redis("get_refresh_jti",
+                () -> replicaRedisTemplate.opsForHash().get(key, field)))) {
+            return true;
         }
+
+        List<Object> fields = observations.redis("get_refresh_jti", () -> redisTemplate.opsForHash()
+                .multiGet(key, List.of(field, AuthStateMigration.LEGACY_FIELD_REFRESH_TOKEN)));
+
+        String storedJti = (String) fields.get(0);
+        if (storedJti == null && deviceId == null && fields.get(1) != null) {
+            storedJti = authStateMigration.migrateSession(userId);
+        }
+        return refreshTokenJti.equals(storedJti);
+    }
+
+    private void raiseRevocationEpoch(String userId) {
+        observations.redis("raise_revocation_epoch", () -> {
+            revocationEpochStore.revokeAll(userId);
+            return null;
+        });
     }
 
-    public boolean isUserSessionValid(String userId) {
-        String key = userSessionPrefix + userId;
-        return redisTemplate.hasKey(key);
+    private static String refreshJtiField(String deviceId) {
+        return AuthRedisKeys.deviceField(AuthRedisKeys.FIELD_REFRESH_JTI, deviceId);
+    }
+
+    private static LocalDateTime toLocalDateTime(Object epochMillis) {
+        if (epochMillis == null) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong((String) epochMillis)), ZoneId.systemDefault());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.cvmento.global.security;
+
+import com.cvmento.domain.auth.enums.TokenType;
+import io.jsonwebtoken.Claims;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+// 서명 검증을 한 번만 거친 토큰과 그 클레임 (만료된 토큰도 서명이 유효하면 생성됨)
+public record VerifiedToken(
+        String token,
+        String subject,
+        String email,
+        String type,
+        String jti,
+        // 기기별 세션 도입 이전에 발급된 토큰은 null
+        String deviceId,
+        // ver 클레임(ms)이 있으면 그 값, 없으면 iat(초 단위)
+        Date issuedAt,
+        Date expiration
+) {
+    static VerifiedToken of(String token, Claims claims) {
+        return new VerifiedToken(
+                token,
+                claims.getSubject(),
+                claims.get("email", String.class),
+                claims.get("type", String.class),
+                claims.get("jti", String.class),
+                claims.get("did", String.class),
+                issuedAt(claims),
+                claims.getExpiration()
+        );
+    }
+
+    private static Date issuedAt(Claims claims) {
+        Long issuedAtMillis = claims.get("ver", Long.class);
+        return issuedAtMillis != null ? new Date(issuedAtMillis) : claims.getIssuedAt();
+    }
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+
+    public boolean isAccessToken() {
+        return TokenType.ACCESS.getType().equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return TokenType.REFRESH.getType().equals(type);
+    }
+
+    public LocalDateTime expirationAsLocalDateTime() {
+        return expiration.toInstant()
+                .atZone(ZoneId.systemDefault())
+                .toLocalDateTime();
+    }
+}
@@ -0,0 +1,128 @@
+package com.cvmento.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// 서명 검증이 끝난 토큰의 클레임 캐시 (키: 토큰의 SHA-256 다이제스트)
+// 위조 토큰이 캐시 항목과 충돌하면 인증 우회가 되므로 키는 반드시 암호학적 해시를 사용
+// 항목은 토큰 만료 시각에 제거되며 항목 수와 추정 바이트 수 두 가지로 용량을 제한
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt-claims";
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final boolean enabled;
+    private final Cache<TokenDigest, VerifiedToken> cache;
+    private final MessageDigest digestPrototype;
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jwt.claims-cache.enabled:false}") boolean enabled,
+                              @Value("${jwt.claims-cache.max-entries:50000}") long maxEntries,
+                              @Value("${jwt.claims-cache.max-size:32MB}") DataSize maxSize) {
+        this.enabled = enabled;
+        this.digestPrototype = sha256();
+
+        // 항목 가중치를 최소 (최대 바이트 / 최대 항목 수)로 잡아 두 한도 중 먼저 도달하는 쪽이 적용되도록 함
+        long maxBytes = maxSize.toBytes();
+        long minWeight = Math.max(1, maxBytes / Math.max(1, maxEntries));
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((TokenDigest key, VerifiedToken value) -> (int) Math.min(Integer.MAX_VALUE,
+                        Math.max(minWeight, estimateBytes(value))))
+                .expireAfter(new ExpireAtTokenExpiration())
+                .recordStats()
+                .build();
+
+        if (enabled) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        }
+    }
+
+    public Optional<VerifiedToken> verify(String token, Function<String, Optional<VerifiedToken>> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+
+        TokenDigest key = digest(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<VerifiedToken> verified = verifier.apply(token);
+        // 만료되지 않은 유효 토큰만 캐싱
+        verified.filter(t -> t.expiration() != null && !t.isExpired())
+                .ifPresent(t -> cache.put(key, t));
+        return verified;
+    }
+
+    private TokenDigest digest(String token) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = (MessageDigest) digestPrototype.clone();
+        } catch (CloneNotSupportedException e) {
+            messageDigest = sha256();
+        }
+        ByteBuffer hash = ByteBuffer.wrap(messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+    }
+
+    private static long estimateBytes(VerifiedToken token) {
+        return ENTRY_OVERHEAD_BYTES
+                + length(token.token())
+                + length(token.subject())
+                + length(token.email())
+                + length(token.type())
+                + length(token.jti())
+                + length(token.deviceId());
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record TokenDigest(long h0, long h1, long h2, long h3) {
+    }
+
+    private static final class ExpireAtTokenExpiration implements Expiry<TokenDigest, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
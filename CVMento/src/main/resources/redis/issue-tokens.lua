@@ -0,0 +1,50 @@
+-- 로그인 시 기기 세션을 원자적으로 추가하고, 기기 수 제한을 넘으면 가장 오래 사용하지 않은 기기부터 제거
+-- KEYS[1]: 사용자 세션 키, KEYS[2]: 기기 ID 집합 키, KEYS[3]: 이전 구조의 Refresh Token 키 (마이그레이션 정리용)
+-- ARGV[1]: 기기 ID, ARGV[2]: Refresh Token jti, ARGV[3]: 현재 시각(ms), ARGV[4]: TTL(초), ARGV[5]: 최대 기기 수, ARGV[6]: 기기 이름
+-- ARGV[7]: Refresh Token 만료 시각(ms)
+-- 반환: 제한 초과로 제거된 기기 수 (만료되어 정리된 기기는 제외)
+local s = ':' .. ARGV[1]
+local now = tonumber(ARGV[3])
+
+local function removeDevice(deviceId)
+    local e = ':' .. deviceId
+    redis.call('HDEL', KEYS[1], 'rt' .. e, 'la' .. e, 'ca' .. e, 'dn' .. e, 'prt' .. e, 'ra' .. e, 'ex' .. e)
+end
+
+-- 기기 ID가 없던 이전 단일 세션 필드는 로그인 시 교체 (기존 동작과 동일)
+redis.call('DEL', KEYS[3])
+redis.call('HDEL', KEYS[1], 'rt', 'la', 'prt', 'ra', 'ex', 'refreshToken', 'lastActivity')
+
+-- Hash 전체의 TTL은 마지막 발급/회전 기준으로 연장되므로 기기별 만료 시각(ex)으로 만료된 기기를 먼저 정리
+-- (만료된 기기가 목록에 남거나 기기 수 제한에 포함되어 사용 중인 기기가 밀려나지 않도록 함)
+-- 만료 시각이 없는 이전 세션은 마지막 발급/회전 시각 + Refresh Token 수명으로 판단
+local devices = redis.call('ZRANGE', KEYS[2], 0, -1)
+for i = 1, #devices do
+    local e = ':' .. devices[i]
+    local f = redis.call('HMGET', KEYS[1], 'ex' .. e, 'ca' .. e, 'ra' .. e)
+    local expiresAt = tonumber(f[1])
+    if expiresAt == nil then
+        expiresAt = math.max(tonumber(f[2]) or 0, tonumber(f[3]) or 0) + tonumber(ARGV[4]) * 1000
+    end
+    if expiresAt <= now then
+        removeDevice(devices[i])
+        redis.call('ZREM', KEYS[2], devices[i])
+    end
+end
+
+redis.call('HSET', KEYS[1], 'rt' .. s, ARGV[2], 'la' .. s, ARGV[3], 'ca' .. s, ARGV[3], 'dn' .. s, ARGV[6], 'ex' .. s, ARGV[7])
+redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+
+local evicted = 0
+local excess = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[5])
+if excess > 0 then
+    local oldest = redis.call('ZPOPMIN', KEYS[2], excess)
+    for i = 1, #oldest, 2 do
+        removeDevice(oldest[i])
+        evicted = evicted + 1
+    end
+end
+
+redis.call('EXPIRE', KEYS[1], ARGV[4])
+redis.call('EXPIRE', KEYS[2], ARGV[4])
+return evicted
@@ -0,0 +1,12 @@
+-- 이전 구조의 사용자 세션(JSON 값, Refresh Token 중복 저장)을 통합 세션 레코드로 변환
+-- KEYS[1]: 사용자 세션 키, KEYS[2]: 이전 구조의 Refresh Token 키
+-- ARGV[1]: Refresh Token jti, ARGV[2]: 마지막 활동 시각(ms)
+-- 반환: 1 변환됨 / 0 이미 변환되었거나 세션 없음
+if redis.call('HEXISTS', KEYS[1], 'refreshToken') == 0 then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], 'rt', ARGV[1], 'la', ARGV[2])
+redis.call('HDEL', KEYS[1], 'refreshToken', 'lastActivity')
+redis.call('DEL', KEYS[2])
+return 1
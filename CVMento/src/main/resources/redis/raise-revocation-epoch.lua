@@ -0,0 +1,12 @@
+-- 사용자 폐기 기준 시각(ms)을 올림 (노드 간 시계 차이로 기준이 뒤로 가지 않도록 더 큰 값만 반영)
+-- KEYS[1]: 폐기 기준 시각 키
+-- ARGV[1]: 폐기 기준 시각(ms), ARGV[2]: TTL(초, Refresh Token 수명)
+-- 반환: 적용된 폐기 기준 시각
+local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+-- 이전 버전이 초 단위로 기록한 값 E는 (E + 1)초로 변환 (RevocationEpochStore.toEpochMillis와 동일)
+if current > 0 and current < 1000000000000 then
+    current = (current + 1) * 1000
+end
+local epoch = math.max(current, tonumber(ARGV[1]))
+redis.call('SET', KEYS[1], string.format('%d', epoch), 'EX', ARGV[2])
+return epoch
@@ -0,0 +1,13 @@
+-- 한 기기의 세션만 폐기
+-- KEYS[1]: 사용자 세션 키, KEYS[2]: 기기 ID 집합 키
+-- ARGV[1]: 기기 필드 접미사(":<기기 ID>", 이전 토큰은 빈 문자열), ARGV[2]: 기기 ID (이전 토큰은 빈 문자열)
+-- 반환: 1 폐기됨 / 0 해당 기기 세션 없음
+local s = ARGV[1]
+local removed = redis.call('HDEL', KEYS[1], 'rt' .. s, 'la' .. s, 'ca' .. s, 'dn' .. s, 'prt' .. s, 'ra' .. s, 'ex' .. s)
+if ARGV[2] ~= '' then
+    redis.call('ZREM', KEYS[2], ARGV[2])
+end
+if removed > 0 then
+    return 1
+end
+return 0
@@ -0,0 +1,32 @@
+-- 기기별 Refresh Token 회전 (Compare-And-Swap) 및 재사용 탐지
+-- KEYS[1]: 사용자 세션 키, KEYS[2]: 기기 ID 집합 키
+-- ARGV[1]: 제시된 jti, ARGV[2]: 새 jti, ARGV[3]: 현재 시각(ms), ARGV[4]: TTL(초), ARGV[5]: 재사용 유예 시간(ms)
+-- ARGV[6]: 기기 필드 접미사(":<기기 ID>", 이전 토큰은 빈 문자열), ARGV[7]: 기기 ID (이전 토큰은 빈 문자열)
+-- ARGV[8]: 새 Refresh Token 만료 시각(ms)
+-- 반환: 1 회전 성공 / 2 유예 시간 내 동시 요청 / -1 재사용 탐지로 세션 폐기 / 0 알 수 없는 토큰
+-- 재사용 탐지는 기기별 직전 jti(prt) 하나만 비교하므로 사용자별 상태 크기가 회전 횟수와 무관하게 일정
+-- (두 세대 이상 지난 토큰은 탐지 없이 0으로 거부)
+local s = ARGV[6]
+local session = redis.call('HMGET', KEYS[1], 'rt' .. s, 'prt' .. s, 'ra' .. s)
+
+if session[1] == ARGV[1] then
+    redis.call('HSET', KEYS[1], 'rt' .. s, ARGV[2], 'la' .. s, ARGV[3], 'prt' .. s, ARGV[1], 'ra' .. s, ARGV[3], 'ex' .. s, ARGV[8])
+    redis.call('EXPIRE', KEYS[1], ARGV[4])
+    if ARGV[7] ~= '' then
+        redis.call('ZADD', KEYS[2], ARGV[3], ARGV[7])
+        redis.call('EXPIRE', KEYS[2], ARGV[4])
+    end
+    return 1
+end
+
+if session[1] and session[2] == ARGV[1] then
+    -- 여러 탭이 동시에 같은 토큰으로 갱신한 경우 (새 Refresh Token 쿠키는 먼저 회전한 응답이 설정)
+    if session[3] and tonumber(ARGV[3]) - tonumber(session[3]) <= tonumber(ARGV[5]) then
+        return 2
+    end
+    -- 이미 회전된 토큰이 유예 시간 이후 다시 제시되면 탈취로 간주하고 모든 기기의 세션을 폐기
+    redis.call('DEL', KEYS[1], KEYS[2])
+    return -1
+end
+
+return 0
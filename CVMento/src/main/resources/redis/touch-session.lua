@@ -0,0 +1,19 @@
+-- 기기 세션의 마지막 활동 시각 갱신 (지연 일괄 기록용)
+-- 로그아웃/만료로 이미 삭제된 기기 세션은 다시 만들지 않음
+-- KEYS[1]: 사용자 세션 키, KEYS[2]: 기기 ID 집합 키
+-- ARGV[1]: 기기 필드 접미사(":<기기 ID>", 이전 토큰은 빈 문자열), ARGV[2]: 활동 시각(ms), ARGV[3]: 기기 ID (이전 토큰은 빈 문자열)
+-- 반환: 1 갱신 / 0 세션 없음
+local s = ARGV[1]
+if redis.call('HEXISTS', KEYS[1], 'rt' .. s) == 0 then
+    return 0
+end
+
+local current = tonumber(redis.call('HGET', KEYS[1], 'la' .. s))
+if current == nil or current < tonumber(ARGV[2]) then
+    redis.call('HSET', KEYS[1], 'la' .. s, ARGV[2])
+    if ARGV[3] ~= '' then
+        -- 기기 수 제한 시 실제로 오래 사용하지 않은 기기부터 제거되도록 점수도 갱신 (XX: 제거된 기기는 추가하지 않음)
+        redis.call('ZADD', KEYS[2], 'XX', ARGV[2], ARGV[3])
+    end
+end
+return 1
@@ -0,0 +1,106 @@
+package com.cvmento.domain.member.service;
+
+import com.cvmento.global.security.MemberPrincipalCache;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+// ON DUPLICATE KEY UPDATE 기반 upsert는 MySQL 전용이므로 H2가 아닌 MySQL에서 검증
+// TEST_MYSQL_URL(/USER/PASSWORD)이 있으면 해당 DB(members 테이블을 다시 만들므로 전용 DB만 지정),
+// 없으면 MySQL 컨테이너를 사용하고 Docker도 없으면 건너뜀
+class MemberServiceTest {
+
+    private static MySQLContainer<?> container;
+    private static DriverManagerDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private MemberPrincipalCache memberPrincipalCache;
+    private MemberService memberService;
+
+    @BeforeAll
+    static void connect() {
+        String url = System.getenv("TEST_MYSQL_URL");
+        if (url != null && !url.isBlank()) {
+            dataSource = new DriverManagerDataSource(url,
+                    System.getenv().getOrDefault("TEST_MYSQL_USER", "test"),
+                    System.getenv().getOrDefault("TEST_MYSQL_PASSWORD", "test"));
+            return;
+        }
+        Assumptions.assumeTrue(DockerClientFactory.instance().isDockerAvailable(),
+                "TEST_MYSQL_URL is not set and Docker is not available");
+        if (container == null) {
+            container = new MySQLContainer<>("mysql:8.0.26");
+            container.start();
+        }
+        dataSource = new DriverManagerDataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS members");
+        // Member 엔티티와 같은 구조 (유니크 키는 PK 외에 google_id 하나)
+        jdbcTemplate.execute("""
+                CREATE TABLE members (
+                    member_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    google_id VARCHAR(255) NOT NULL UNIQUE,
+                    email VARCHAR(255) NOT NULL,
+                    name VARCHAR(255) NOT NULL,
+                    profile_img VARCHAR(255),
+                    last_login_at DATETIME(6),
+                    role VARCHAR(255) NOT NULL,
+                    status VARCHAR(255) NOT NULL,
+                    created_at DATETIME(6),
+                    updated_at DATETIME(6)
+                )""");
+        memberPrincipalCache = mock(MemberPrincipalCache.class);
+        memberService = new MemberService(jdbcTemplate, memberPrincipalCache);
+    }
+
+    @Test
+    void upsertGoogleMember_신규_회원_가입() {
+        Long memberId = memberService.upsertGoogleMember("google-1", "a@example.com", "A", "a.png");
+
+        Map<String, Object> row = member(memberId);
+        assertThat(row).containsEntry("google_id", "google-1")
+                .containsEntry("email", "a@example.com")
+                .containsEntry("role", "USER")
+                .containsEntry("status", "ACTIVE");
+        assertThat(row.get("last_login_at")).isNotNull();
+        assertThat(row.get("created_at")).isNotNull();
+        verify(memberPrincipalCache).invalidate(memberId);
+    }
+
+    @Test
+    void upsertGoogleMember_기존_회원은_같은_ID로_프로필_갱신_및_재활성화() {
+        Long memberId = memberService.upsertGoogleMember("google-1", "a@example.com", "A", "a.png");
+        // 중간에 다른 회원이 가입해도 LAST_INSERT_ID가 아닌 기존 회원 ID를 반환해야 함
+        Long otherId = memberService.upsertGoogleMember("google-2", "b@example.com", "B", null);
+        jdbcTemplate.update("UPDATE members SET status = 'INACTIVE', role = 'ADMIN' WHERE member_id = ?", memberId);
+
+        Long upsertedId = memberService.upsertGoogleMember("google-1", "a@example.com", "A2", "a2.png");
+
+        assertThat(upsertedId).isEqualTo(memberId).isNotEqualTo(otherId);
+        assertThat(member(memberId)).containsEntry("name", "A2")
+                .containsEntry("profile_img", "a2.png")
+                .containsEntry("status", "ACTIVE")
+                // 권한은 로그인으로 바뀌지 않음
+                .containsEntry("role", "ADMIN");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM members", Long.class)).isEqualTo(2L);
+    }
+
+    private Map<String, Object> member(Long memberId) {
+        return jdbcTemplate.queryForMap("SELECT * FROM members WHERE member_id = ?", memberId);
+    }
+}
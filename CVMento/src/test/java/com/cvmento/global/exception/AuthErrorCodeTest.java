@@ -0,0 +1,109 @@
+package com.cvmento.global.exception;
+
+import com.cvmento.global.common.dto.CommonResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthErrorCodeTest {
+
+    private static final Pattern TIMESTAMP = Pattern.compile("\"timestamp\":\"([^\"]+)\"");
+    private static final Pattern FILTER_TIMESTAMP = Pattern.compile("\"timestamp\":(\\d+)}$");
+
+    // Spring Boot 기본 ObjectMapper와 같은 날짜 직렬화 설정
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    // 상태 코드별 대표 코드의 응답 바이트를 그대로 고정 (timestamp만 응답 값으로 채움)
+    static Stream<Arguments> expectedBodies() {
+        return Stream.of(
+                Arguments.of(AuthErrorCode.ACCESS_TOKEN_EXPIRED, 401,
+                        "{\"success\":false,\"message\":\"Access Token이 만료되었습니다.\",\"errorCode\":\"ACCESS_TOKEN_EXPIRED\",\"canRetry\":true,\"timestamp\":\"%s\"}"),
+                Arguments.of(AuthErrorCode.SESSION_NOT_FOUND, 404,
+                        "{\"success\":false,\"message\":\"존재하지 않는 기기 세션입니다.\",\"errorCode\":\"SESSION_NOT_FOUND\",\"canRetry\":false,\"timestamp\":\"%s\"}"),
+                Arguments.of(AuthErrorCode.AUTH_UNAVAILABLE, 503,
+                        "{\"success\":false,\"message\":\"일시적으로 인증을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.\",\"errorCode\":\"AUTH_UNAVAILABLE\",\"canRetry\":true,\"timestamp\":\"%s\"}")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("expectedBodies")
+    void write_상태코드별_응답_바이트(AuthErrorCode errorCode, int status, String expectedFormat) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        errorCode.write(request, response);
+
+        byte[] body = response.getContentAsByteArray();
+        String timestamp = timestampOf(body);
+        assertThat(body).isEqualTo(expectedFormat.formatted(timestamp).getBytes(StandardCharsets.UTF_8));
+        assertThat(response.getStatus()).isEqualTo(status);
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        assertThat(response.getContentLength()).isEqualTo(body.length);
+        assertThat(request.getAttribute(AuthErrorCode.REQUEST_ATTRIBUTE)).isEqualTo(errorCode.name());
+    }
+
+    // 미리 만든 본문이 기존 CommonResponse.error의 Jackson 직렬화 결과와 같은지 확인
+    @ParameterizedTest
+    @EnumSource(AuthErrorCode.class)
+    void write_CommonResponse_직렬화와_동일(AuthErrorCode errorCode) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        errorCode.write(new MockHttpServletRequest(), response);
+
+        byte[] body = response.getContentAsByteArray();
+        CommonResponse<Void> expected = CommonResponse.<Void>builder()
+                .success(false)
+                .message(errorCode.getMessage())
+                .errorCode(errorCode.name())
+                .canRetry(errorCode.isCanRetry())
+                .timestamp(LocalDateTime.parse(timestampOf(body)))
+                .build();
+        assertThat(body).isEqualTo(objectMapper.writeValueAsBytes(expected));
+    }
+
+    // 인증 필터 거부 응답은 기존 필터 응답과 같은 필드 순서와 epoch 밀리초 숫자 timestamp 유지
+    @ParameterizedTest
+    @EnumSource(AuthErrorCode.class)
+    void writeFilterRejection_기존_필터_응답_형식과_동일(AuthErrorCode errorCode) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        long before = System.currentTimeMillis();
+
+        errorCode.writeFilterRejection(request, response);
+
+        byte[] body = response.getContentAsByteArray();
+        Matcher matcher = FILTER_TIMESTAMP.matcher(new String(body, StandardCharsets.UTF_8));
+        assertThat(matcher.find()).isTrue();
+        long timestamp = Long.parseLong(matcher.group(1));
+        assertThat(timestamp).isBetween(before, System.currentTimeMillis());
+        String expected = String.format(
+                "{\"success\":false,\"errorCode\":\"%s\",\"message\":\"%s\",\"canRetry\":%b,\"timestamp\":%d}",
+                errorCode.name(), errorCode.getMessage(), errorCode.isCanRetry(), timestamp);
+        assertThat(body).isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+        assertThat(response.getStatus()).isEqualTo(errorCode.getStatus().value());
+        assertThat(response.getContentLength()).isEqualTo(body.length);
+        assertThat(request.getAttribute(AuthErrorCode.REQUEST_ATTRIBUTE)).isEqualTo(errorCode.name());
+    }
+
+    private static String timestampOf(byte[] body) {
+        Matcher matcher = TIMESTAMP.matcher(new String(body, StandardCharsets.UTF_8));
+        assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
+}
@@ -0,0 +1,143 @@
+package com.cvmento.global.security;
+
+import com.cvmento.domain.auth.dto.TokenDto;
+import com.cvmento.domain.auth.enums.SessionVerdict;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncTokenServiceTest extends RedisContainerTestSupport {
+
+    private static final String USER_ID = "1";
+
+    private RedisMessageListenerContainer listenerContainer;
+    private JwtUtil jwtUtil;
+    private BlacklistBloomFilter blacklistBloomFilter;
+    private RevocationEpochStore revocationEpochStore;
+    private AsyncTokenService asyncTokenService;
+
+    @BeforeEach
+    void setUp() {
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuthObservations observations = new AuthObservations(ObservationRegistry.NOOP, meterRegistry);
+        ReactiveStringRedisTemplate reactiveTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+        jwtUtil = new JwtUtil("0123456789abcdef0123456789abcdef", 60_000, 3_600_000,
+                new VerifiedTokenCache(meterRegistry, false, 1_000, DataSize.ofMegabytes(1)));
+        blacklistBloomFilter = new BlacklistBloomFilter(redisTemplate, listenerContainer, meterRegistry, keys,
+                "token-blacklist", Duration.ofHours(6), 1_000, 0.01);
+        blacklistBloomFilter.seed();
+        revocationEpochStore = new RevocationEpochStore(redisTemplate, reactiveTemplate, reactiveTemplate, listenerContainer,
+                meterRegistry, observations, keys, Duration.ofDays(14).toMillis(), 1_000, Duration.ofMinutes(1), "revocation-epoch");
+        AuthStateFallbackStore fallbackStore = new AuthStateFallbackStore(listenerContainer, meterRegistry,
+                Duration.ofMinutes(10), 1_000, 1_000, "token-blacklist");
+        asyncTokenService = new AsyncTokenService(jwtUtil, reactiveTemplate, reactiveTemplate, blacklistBloomFilter,
+                revocationEpochStore, fallbackStore, observations, keys, false, 5);
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    @Test
+    void issueTokens_기기_세션을_저장하고_발급한_토큰으로_세션_확인() throws Exception {
+        TokenDto tokens = asyncTokenService.issueTokens(USER_ID, "test@example.com", "laptop").toCompletableFuture().get();
+
+        VerifiedToken accessToken = jwtUtil.verify(tokens.accessToken()).orElseThrow();
+        VerifiedToken refreshToken = jwtUtil.verify(tokens.refreshToken()).orElseThrow();
+        assertThat(redisTemplate.opsForHash().get(keys.userSession(USER_ID), "rt:" + accessToken.deviceId()))
+                .isEqualTo(refreshToken.jti());
+        assertThat(redisTemplate.opsForHash().get(keys.userSession(USER_ID), "dn:" + accessToken.deviceId()))
+                .isEqualTo("laptop");
+        assertThat(check(accessToken)).isEqualTo(SessionVerdict.VALID);
+    }
+
+    @Test
+    void logout_모든_기기를_폐기하고_제시된_토큰은_블랙리스트에_등록() throws Exception {
+        TokenDto laptop = asyncTokenService.issueTokens(USER_ID, "test@example.com", "laptop").toCompletableFuture().get();
+        TokenDto phone = asyncTokenService.issueTokens(USER_ID, "test@example.com", "phone").toCompletableFuture().get();
+        VerifiedToken laptopAccess = jwtUtil.verify(laptop.accessToken()).orElseThrow();
+        VerifiedToken laptopRefresh = jwtUtil.verify(laptop.refreshToken()).orElseThrow();
+
+        asyncTokenService.logout(USER_ID, laptopAccess, laptopRefresh).toCompletableFuture().get();
+
+        assertThat(redisTemplate.hasKey(keys.blacklist(laptopAccess.jti()))).isTrue();
+        assertThat(redisTemplate.hasKey(keys.blacklist(laptopRefresh.jti()))).isTrue();
+        assertThat(redisTemplate.hasKey(keys.userSession(USER_ID))).isFalse();
+        assertThat(check(laptopAccess)).isEqualTo(SessionVerdict.TOKEN_BLACKLISTED);
+        assertThat(check(jwtUtil.verify(phone.accessToken()).orElseThrow())).isEqualTo(SessionVerdict.TOKEN_BLACKLISTED);
+    }
+
+    @Test
+    void logoutDevice_현재_기기만_폐기하고_제시된_토큰은_블랙리스트에_등록() throws Exception {
+        TokenDto laptop = asyncTokenService.issueTokens(USER_ID, "test@example.com", "laptop").toCompletableFuture().get();
+        TokenDto phone = asyncTokenService.issueTokens(USER_ID, "test@example.com", "phone").toCompletableFuture().get();
+        VerifiedToken laptopAccess = jwtUtil.verify(laptop.accessToken()).orElseThrow();
+        VerifiedToken laptopRefresh = jwtUtil.verify(laptop.refreshToken()).orElseThrow();
+
+        asyncTokenService.logoutDevice(laptopAccess, laptopRefresh).toCompletableFuture().get();
+
+        assertThat(redisTemplate.hasKey(keys.blacklist(laptopAccess.jti()))).isTrue();
+        assertThat(redisTemplate.hasKey(keys.blacklist(laptopRefresh.jti()))).isTrue();
+        assertThat(check(laptopAccess)).isEqualTo(SessionVerdict.TOKEN_BLACKLISTED);
+        assertThat(check(jwtUtil.verify(phone.accessToken()).orElseThrow())).isEqualTo(SessionVerdict.VALID);
+    }
+
+    @Test
+    void revokeSession_해당_기기_세션만_삭제() throws Exception {
+        TokenDto laptop = asyncTokenService.issueTokens(USER_ID, "test@example.com", "laptop").toCompletableFuture().get();
+        VerifiedToken laptopAccess = jwtUtil.verify(laptop.accessToken()).orElseThrow();
+
+        assertThat(asyncTokenService.revokeSession(USER_ID, laptopAccess.deviceId()).toCompletableFuture().get()).isTrue();
+        assertThat(asyncTokenService.revokeSession(USER_ID, laptopAccess.deviceId()).toCompletableFuture().get()).isFalse();
+        assertThat(check(laptopAccess)).isEqualTo(SessionVerdict.SESSION_INVALID);
+    }
+
+    @Test
+    void logoutAll_폐기_기준_시각을_올리고_모든_세션_삭제() throws Exception {
+        TokenDto laptop = asyncTokenService.issueTokens(USER_ID, "test@example.com", "laptop").toCompletableFuture().get();
+        asyncTokenService.issueTokens(USER_ID, "test@example.com", "phone").toCompletableFuture().get();
+        VerifiedToken laptopAccess = jwtUtil.verify(laptop.accessToken()).orElseThrow();
+
+        asyncTokenService.logoutAll(USER_ID).toCompletableFuture().get();
+
+        assertThat(redisTemplate.hasKey(keys.userSession(USER_ID))).isFalse();
+        assertThat(redisTemplate.hasKey(keys.userDevices(USER_ID))).isFalse();
+        assertThat(redisTemplate.opsForValue().get(keys.revocationEpoch(USER_ID))).isNotNull();
+        assertThat(check(laptopAccess)).isEqualTo(SessionVerdict.TOKEN_BLACKLISTED);
+
+        // 전체 로그아웃 이후 다시 로그인한 기기는 유효
+        TokenDto relogin = asyncTokenService.issueTokens(USER_ID, "test@example.com", "laptop").toCompletableFuture().get();
+        assertThat(check(jwtUtil.verify(relogin.accessToken()).orElseThrow())).isEqualTo(SessionVerdict.VALID);
+    }
+
+    @Test
+    void await_비동기_실패는_원래_예외로_전달() {
+        CompletableFuture<Void> failed = CompletableFuture.supplyAsync(() -> {
+            throw new QueryTimeoutException("Redis command timed out");
+        });
+
+        assertThatThrownBy(() -> AsyncResults.await(failed)).isInstanceOf(QueryTimeoutException.class);
+    }
+
+    private SessionVerdict check(VerifiedToken accessToken) throws Exception {
+        return asyncTokenService.checkSession(accessToken).toCompletableFuture().get();
+    }
+}
@@ -0,0 +1,152 @@
+package com.cvmento.global.security;
+
+import com.cvmento.domain.auth.enums.SessionVerdict;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BlacklistBloomFilterTest extends RedisContainerTestSupport {
+
+    private static final String CHANNEL = "token-blacklist";
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    @BeforeEach
+    void startListener() {
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    @Test
+    void mightContain_시딩_전에는_항상_Redis로_확인() {
+        BlacklistBloomFilter filter = filter();
+
+        assertThat(filter.mightContain("jti-1")).isTrue();
+    }
+
+    @Test
+    void seed_Redis의_블랙리스트_키로_채우고_없는_jti는_걸러냄() {
+        redisTemplate.opsForValue().set(keys.blacklist("jti-1"), "1", 1, TimeUnit.HOURS);
+        redisTemplate.opsForValue().set(keys.blacklist("jti-2"), "\"blacklisted\"", 1, TimeUnit.HOURS);
+        // TTL이 없는 키는 만료 세대를 알 수 없으므로 제외
+        redisTemplate.opsForValue().set(keys.blacklist("jti-3"), "1");
+        BlacklistBloomFilter filter = filter();
+
+        filter.seed();
+
+        assertThat(filter.mightContain("jti-1")).isTrue();
+        assertThat(filter.mightContain("jti-2")).isTrue();
+        assertThat(filter.mightContain("jti-3")).isFalse();
+        assertThat(filter.mightContain("unknown")).isFalse();
+        assertThat(filter.insertions()).isEqualTo(2);
+    }
+
+    @Test
+    void add_다른_노드의_필터와_장애_대비_기록에_전파() throws Exception {
+        BlacklistBloomFilter local = filter();
+        BlacklistBloomFilter remote = filter();
+        AuthStateFallbackStore remoteFallback = new AuthStateFallbackStore(listenerContainer, new SimpleMeterRegistry(),
+                Duration.ofMinutes(10), 1_000, 1_000, CHANNEL);
+        local.seed();
+        remote.seed();
+
+        asyncTokenService(local).revokeToken(accessToken("jti-1")).toCompletableFuture().get();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!(remote.mightContain("jti-1") && remoteFallback.isTokenRevoked("jti-1"))
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(remote.mightContain("jti-1")).isTrue();
+        assertThat(remoteFallback.isTokenRevoked("jti-1")).isTrue();
+    }
+
+    @Test
+    void checkSession_블랙리스트에_등록된_토큰은_세션이_남아있어도_거부() throws Exception {
+        BlacklistBloomFilter filter = filter();
+        filter.seed();
+        AsyncTokenService asyncTokenService = asyncTokenService(filter);
+        VerifiedToken revoked = accessToken("jti-1");
+        VerifiedToken other = accessToken("jti-2");
+        redisTemplate.opsForHash().put(keys.userSession("1"), "rt:laptop", "refresh-jti");
+
+        asyncTokenService.revokeToken(revoked).toCompletableFuture().get();
+
+        assertThat(redisTemplate.getExpire(keys.blacklist("jti-1"))).isPositive();
+        assertThat(asyncTokenService.checkSession(revoked).toCompletableFuture().get()).isEqualTo(SessionVerdict.TOKEN_BLACKLISTED);
+        assertThat(asyncTokenService.checkSession(other).toCompletableFuture().get()).isEqualTo(SessionVerdict.VALID);
+    }
+
+    @Test
+    void addLocally_이미_만료된_토큰은_추가하지_않음() {
+        BlacklistBloomFilter filter = filter();
+        filter.seed();
+
+        filter.addLocally("jti-1", System.currentTimeMillis() - 1);
+
+        assertThat(filter.mightContain("jti-1")).isFalse();
+        assertThat(filter.memoryBytes()).isZero();
+    }
+
+    @Test
+    void expectedFalsePositiveRate_설정한_오탐률_이내() {
+        BlacklistBloomFilter filter = filter();
+        filter.seed();
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        for (int i = 0; i < 1_000; i++) {
+            filter.addLocally("jti-" + i, expiresAt);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(filter.expectedFalsePositiveRate()).isLessThanOrEqualTo(0.011);
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    private static VerifiedToken accessToken(String jti) {
+        Date now = new Date();
+        return new VerifiedToken("access-" + jti, "1", "test@example.com", "access", jti, "laptop",
+                now, new Date(now.getTime() + 60_000));
+    }
+
+    private AsyncTokenService asyncTokenService(BlacklistBloomFilter filter) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuthObservations observations = new AuthObservations(ObservationRegistry.NOOP, meterRegistry);
+        ReactiveStringRedisTemplate reactiveTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+        RevocationEpochStore epochStore = new RevocationEpochStore(redisTemplate, reactiveTemplate, reactiveTemplate,
+                listenerContainer, meterRegistry, observations, keys, Duration.ofDays(14).toMillis(), 1_000,
+                Duration.ofMinutes(1), "revocation-epoch");
+        AuthStateFallbackStore fallbackStore = new AuthStateFallbackStore(listenerContainer, meterRegistry,
+                Duration.ofMinutes(10), 1_000, 1_000, CHANNEL);
+        return new AsyncTokenService(mock(JwtUtil.class), reactiveTemplate, reactiveTemplate, filter, epochStore,
+                fallbackStore, observations, keys, false, 5);
+    }
+
+    private BlacklistBloomFilter filter() {
+        return new BlacklistBloomFilter(redisTemplate, listenerContainer, new SimpleMeterRegistry(), keys, CHANNEL,
+                Duration.ofHours(6), 1_000, 0.01);
+    }
+}
@@ -0,0 +1,155 @@
+package com.cvmento.global.security;
+
+import com.cvmento.domain.auth.dto.DeviceSessionDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class DeviceSessionScriptsTest extends RedisContainerTestSupport {
+
+    private static final String USER_ID = "1";
+    private static final long TTL_SECONDS = 3600;
+    private static final long TTL_MILLIS = TTL_SECONDS * 1000;
+
+    @Test
+    void issueTokens_이전_단일_세션_필드와_키_정리() {
+        redisTemplate.opsForHash().putAll(keys.userSession(USER_ID), Map.of("rt", "legacy", "refreshToken", "\"old\""));
+        redisTemplate.opsForValue().set(keys.legacyRefreshToken(USER_ID), "old");
+
+        issue("laptop", "jti-1", 1_000, 5);
+
+        assertThat(session()).doesNotContainKeys("rt", "refreshToken").containsKey("rt:laptop");
+        assertThat(redisTemplate.hasKey(keys.legacyRefreshToken(USER_ID))).isFalse();
+    }
+
+    @Test
+    void issueTokens_기기_수_초과_시_가장_오래_사용하지_않은_기기_제거() {
+        issue("a", "jti-a", 1_000, 2);
+        issue("b", "jti-b", 2_000, 2);
+        // a가 b보다 최근에 사용됨
+        touch("a", 3_000);
+
+        long evicted = issue("c", "jti-c", 4_000, 2);
+
+        assertThat(evicted).isEqualTo(1);
+        assertThat(session()).containsKeys("rt:a", "rt:c")
+                .doesNotContainKeys("rt:b", "la:b", "ca:b", "dn:b", "ex:b");
+        assertThat(redisTemplate.opsForZSet().range(keys.userDevices(USER_ID), 0, -1)).containsExactlyInAnyOrder("a", "c");
+    }
+
+    @Test
+    void issueTokens_기기별_만료_시각_기록() {
+        issue("laptop", "jti-1", 1_000, 5);
+
+        assertThat(session()).containsEntry("ex:laptop", String.valueOf(1_000 + TTL_MILLIS));
+    }
+
+    @Test
+    void issueTokens_만료된_기기는_정리하고_기기_수_제한에_포함하지_않음() {
+        issue("old", "jti-old", 1_000, 2);
+        issue("b", "jti-b", 1_000 + TTL_MILLIS - 1, 2);
+
+        // old의 Refresh Token은 만료되었지만 b의 발급으로 Hash TTL이 연장되어 남아 있음
+        long evicted = issue("c", "jti-c", 2_000 + TTL_MILLIS, 2);
+
+        assertThat(evicted).isZero();
+        assertThat(session()).containsKeys("rt:b", "rt:c")
+                .doesNotContainKeys("rt:old", "la:old", "ca:old", "dn:old", "ex:old");
+        assertThat(redisTemplate.opsForZSet().range(keys.userDevices(USER_ID), 0, -1)).containsExactlyInAnyOrder("b", "c");
+    }
+
+    @Test
+    void issueTokens_만료_시각이_없는_이전_기기는_마지막_발급_회전_시각으로_판단() {
+        issue("old", "jti-old", 1_000, 5);
+        issue("recent", "jti-r", 1_000, 5);
+        rotate("recent", "jti-r", "jti-r2", 1_000 + TTL_MILLIS / 2);
+        redisTemplate.opsForHash().delete(keys.userSession(USER_ID), "ex:old", "ex:recent");
+
+        issue("c", "jti-c", 2_000 + TTL_MILLIS, 5);
+
+        assertThat(session()).doesNotContainKey("rt:old").containsKeys("rt:recent", "rt:c");
+    }
+
+    @Test
+    void rotateRefreshToken_기기별_만료_시각_갱신() {
+        issue("laptop", "jti-1", 1_000, 5);
+
+        rotate("laptop", "jti-1", "jti-2", 5_000);
+
+        assertThat(session()).containsEntry("ex:laptop", String.valueOf(5_000 + TTL_MILLIS));
+    }
+
+    @Test
+    void revokeDevice_해당_기기만_폐기() {
+        issue("laptop", "jti-1", 1_000, 5);
+        issue("phone", "jti-p", 1_000, 5);
+        rotate("laptop", "jti-1", "jti-2", 2_000);
+
+        long revoked = revoke("laptop");
+
+        assertThat(revoked).isEqualTo(1);
+        assertThat(session()).doesNotContainKeys("rt:laptop", "la:laptop", "ca:laptop", "dn:laptop", "prt:laptop",
+                        "ra:laptop", "ex:laptop")
+                .containsEntry("rt:phone", "jti-p");
+        assertThat(redisTemplate.opsForZSet().range(keys.userDevices(USER_ID), 0, -1)).containsExactly("phone");
+        assertThat(revoke("laptop")).isZero();
+    }
+
+    @Test
+    void listSessions_만료된_기기는_제외() {
+        long now = System.currentTimeMillis();
+        issue("expired", "jti-e", now - 1_000, 5);
+        issue("laptop", "jti-1", now, 5);
+        // 다음 로그인 전까지는 만료된 기기가 Hash에 남아 있음
+        redisTemplate.opsForHash().put(keys.userSession(USER_ID), "ex:expired", String.valueOf(now - 1));
+
+        List<DeviceSessionDto> sessions = tokenService().listSessions(USER_ID, "laptop");
+
+        assertThat(sessions).extracting(DeviceSessionDto::deviceId).containsExactly("laptop");
+        assertThat(sessions.get(0).current()).isTrue();
+    }
+
+    private TokenService tokenService() {
+        AuthObservations observations = new AuthObservations(ObservationRegistry.NOOP, new SimpleMeterRegistry());
+        return new TokenService(mock(JwtUtil.class), redisTemplate, redisTemplate, mock(AsyncTokenService.class),
+                mock(AuthStateMigration.class), mock(RevocationEpochStore.class), mock(RefreshSingleFlight.class),
+                observations, keys, false, true, Duration.ofSeconds(10));
+    }
+
+    private long issue(String deviceId, String jti, long now, int maxDevices) {
+        return redisTemplate.execute(TokenRedisScripts.ISSUE_TOKENS,
+                List.of(keys.userSession(USER_ID), keys.userDevices(USER_ID), keys.legacyRefreshToken(USER_ID)),
+                deviceId, jti, String.valueOf(now), String.valueOf(TTL_SECONDS), String.valueOf(maxDevices),
+                deviceId + "-name", String.valueOf(now + TTL_MILLIS));
+    }
+
+    private long rotate(String deviceId, String presentedJti, String newJti, long now) {
+        return redisTemplate.execute(TokenRedisScripts.ROTATE_REFRESH_TOKEN,
+                List.of(keys.userSession(USER_ID), keys.userDevices(USER_ID)),
+                presentedJti, newJti, String.valueOf(now), String.valueOf(TTL_SECONDS), "10000",
+                AuthRedisKeys.deviceSuffix(deviceId), deviceId, String.valueOf(now + TTL_MILLIS));
+    }
+
+    private long revoke(String deviceId) {
+        return redisTemplate.execute(TokenRedisScripts.REVOKE_DEVICE,
+                List.of(keys.userSession(USER_ID), keys.userDevices(USER_ID)),
+                AuthRedisKeys.deviceSuffix(deviceId), deviceId);
+    }
+
+    private long touch(String deviceId, long millis) {
+        return redisTemplate.execute(TokenRedisScripts.TOUCH_SESSION,
+                List.of(keys.userSession(USER_ID), keys.userDevices(USER_ID)),
+                AuthRedisKeys.deviceSuffix(deviceId), String.valueOf(millis), deviceId);
+    }
+
+    private Map<Object, Object> session() {
+        return redisTemplate.opsForHash().entries(keys.userSession(USER_ID));
+    }
+}
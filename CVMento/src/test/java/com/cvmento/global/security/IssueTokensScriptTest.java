@@ -0,0 +1,45 @@
+package com.cvmento.global.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IssueTokensScriptTest extends RedisContainerTestSupport {
+
+    private static final String USER_ID = "1";
+    private static final long TTL_SECONDS = 3600;
+
+    @Test
+    void issueTokens_기기별_세션_필드와_기기_집합_기록() {
+        long evicted = issue("laptop", "jti-1", 1_000);
+
+        assertThat(evicted).isZero();
+        assertThat(session()).containsEntry("rt:laptop", "jti-1")
+                .containsEntry("la:laptop", "1000")
+                .containsEntry("ca:laptop", "1000")
+                .containsEntry("dn:laptop", "laptop-name");
+        assertThat(redisTemplate.opsForZSet().score(keys.userDevices(USER_ID), "laptop")).isEqualTo(1000.0);
+    }
+
+    @Test
+    void issueTokens_세션과_기기_집합의_TTL을_함께_설정() {
+        issue("laptop", "jti-1", 1_000);
+
+        assertThat(redisTemplate.getExpire(keys.userSession(USER_ID))).isPositive().isLessThanOrEqualTo(TTL_SECONDS);
+        assertThat(redisTemplate.getExpire(keys.userDevices(USER_ID))).isPositive().isLessThanOrEqualTo(TTL_SECONDS);
+    }
+
+    private long issue(String deviceId, String jti, long now) {
+        return redisTemplate.execute(TokenRedisScripts.ISSUE_TOKENS,
+                List.of(keys.userSession(USER_ID), keys.userDevices(USER_ID), keys.legacyRefreshToken(USER_ID)),
+                deviceId, jti, String.valueOf(now), String.valueOf(TTL_SECONDS), "5",
+                deviceId + "-name", String.valueOf(now + TTL_SECONDS * 1000));
+    }
+
+    private Map<Object, Object> session() {
+        return redisTemplate.opsForHash().entries(keys.userSession(USER_ID));
+    }
+}
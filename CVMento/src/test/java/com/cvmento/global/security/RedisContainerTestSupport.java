@@ -0,0 +1,66 @@
+package com.cvmento.global.security;
+
+import com.cvmento.global.config.RedisTopologyProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+
+// 실제 Redis에서 Lua 스크립트와 Pub/Sub을 검증하는 테스트의 공통 설정
+// TEST_REDIS_HOST/TEST_REDIS_PORT가 있으면 해당 서버(테스트마다 FLUSHALL 하므로 전용 서버만 지정),
+// 없으면 Redis 컨테이너를 사용하고 Docker도 없으면 건너뜀
+abstract class RedisContainerTestSupport {
+
+    private static GenericContainer<?> container;
+
+    static LettuceConnectionFactory connectionFactory;
+    static StringRedisTemplate redisTemplate;
+
+    final AuthRedisKeys keys = new AuthRedisKeys(new RedisTopologyProperties(),
+            "refresh-token:", "blacklist:", "user-session:", "revocation-epoch:", "user-devices:", "refresh-result:");
+
+    @BeforeAll
+    static void connect() {
+        String host = System.getenv("TEST_REDIS_HOST");
+        int port;
+        if (host != null && !host.isBlank()) {
+            port = Integer.parseInt(System.getenv().getOrDefault("TEST_REDIS_PORT", "6379"));
+        } else {
+            Assumptions.assumeTrue(DockerClientFactory.instance().isDockerAvailable(),
+                    "TEST_REDIS_HOST is not set and Docker is not available");
+            if (container == null) {
+                container = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+                container.start();
+            }
+            host = container.getHost();
+            port = container.getMappedPort(6379);
+        }
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+            connectionFactory = null;
+        }
+    }
+
+    @BeforeEach
+    void flushAll() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+}
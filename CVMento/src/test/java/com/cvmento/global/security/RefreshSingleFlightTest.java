@@ -0,0 +1,217 @@
+package com.cvmento.global.security;
+
+import com.cvmento.domain.auth.dto.TokenDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RefreshSingleFlightTest extends RedisContainerTestSupport {
+
+    private static final Duration AWAIT = Duration.ofSeconds(2);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private RedisMessageListenerContainer listenerContainer;
+
+    @BeforeEach
+    void startListener() {
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        executor.shutdownNow();
+        listenerContainer.destroy();
+    }
+
+    @Test
+    void execute_같은_노드의_동시_갱신은_한_번만_수행() throws Exception {
+        RefreshSingleFlight singleFlight = singleFlight(true);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TokenDto result = tokenDto("new");
+
+        Future<TokenDto> first = executor.submit(() -> singleFlight.execute(refreshToken("jti-1"), () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return result;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<TokenDto> second = executor.submit(() -> singleFlight.execute(refreshToken("jti-1"), () -> {
+            calls.incrementAndGet();
+            return tokenDto("other");
+        }));
+        // 두 번째 요청이 진행 중인 갱신에 합류할 시간
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(result);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(result);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void execute_갱신_실패는_합류한_요청에도_전달() throws Exception {
+        RefreshSingleFlight singleFlight = singleFlight(true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<TokenDto> first = executor.submit(() -> singleFlight.execute(refreshToken("jti-1"), () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalArgumentException("Refresh token not found or expired");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<TokenDto> second = executor.submit(() -> singleFlight.execute(refreshToken("jti-1"), () -> tokenDto("other")));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void execute_완료된_갱신은_다시_공유하지_않음() {
+        RefreshSingleFlight singleFlight = singleFlight(true);
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute(refreshToken("jti-1"), () -> tokenDto("first-" + calls.incrementAndGet()));
+        TokenDto second = singleFlight.execute(refreshToken("jti-1"), () -> tokenDto("second-" + calls.incrementAndGet()));
+
+        assertThat(second.accessToken()).isEqualTo("access-second-2");
+        assertThat(redisTemplate.keys("*")).isEmpty();
+    }
+
+    @Test
+    void awaitShared_다른_노드가_공유한_결과를_알림으로_받음() throws Exception {
+        RefreshSingleFlight waitingNode = singleFlight(true);
+        RefreshSingleFlight rotatingNode = singleFlight(true);
+        TokenDto result = tokenDto("rotated");
+
+        CompletableFuture<Optional<TokenDto>> waiting =
+                CompletableFuture.supplyAsync(() -> waitingNode.awaitShared(refreshToken("jti-1")), executor);
+        Thread.sleep(100);
+        rotatingNode.share(refreshToken("jti-1"), result);
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).contains(result);
+        assertThat(redisTemplate.getExpire(keys.refreshResult("1", "jti-1"))).isPositive();
+    }
+
+    @Test
+    void awaitShared_이미_공유된_결과는_바로_반환() {
+        RefreshSingleFlight singleFlight = singleFlight(true);
+        TokenDto result = tokenDto("rotated");
+        singleFlight.share(refreshToken("jti-1"), result);
+
+        assertThat(singleFlight.awaitShared(refreshToken("jti-1"))).contains(result);
+    }
+
+    @Test
+    void awaitShared_공유되지_않으면_await_이후_빈_값() {
+        RefreshSingleFlight singleFlight = new RefreshSingleFlight(redisTemplate, listenerContainer, keys,
+                new SimpleMeterRegistry(), true, Duration.ofSeconds(5), Duration.ofMillis(100), "refresh-result");
+
+        long start = System.nanoTime();
+        Optional<TokenDto> shared = singleFlight.awaitShared(refreshToken("jti-1"));
+
+        assertThat(shared).isEmpty();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void 비활성화_시_매번_갱신하고_공유하지_않음() {
+        RefreshSingleFlight singleFlight = singleFlight(false);
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute(refreshToken("jti-1"), () -> tokenDto("a" + calls.incrementAndGet()));
+        singleFlight.execute(refreshToken("jti-1"), () -> tokenDto("b" + calls.incrementAndGet()));
+        singleFlight.share(refreshToken("jti-1"), tokenDto("rotated"));
+
+        assertThat(calls).hasValue(2);
+        assertThat(singleFlight.awaitShared(refreshToken("jti-1"))).isEmpty();
+        assertThat(redisTemplate.keys("*")).isEmpty();
+    }
+
+    @Test
+    void refreshAccessToken_다른_노드가_먼저_회전하면_같은_토큰_쌍을_받음() {
+        JwtUtil jwtUtil = new JwtUtil("0123456789abcdef0123456789abcdef", 60_000, 3_600_000,
+                new VerifiedTokenCache(new SimpleMeterRegistry(), false, 1_000, DataSize.ofMegabytes(1)));
+        IssuedToken issued = jwtUtil.issueRefreshToken("1", "test@example.com", "laptop");
+        redisTemplate.execute(TokenRedisScripts.ISSUE_TOKENS,
+                List.of(keys.userSession("1"), keys.userDevices("1"), keys.legacyRefreshToken("1")),
+                "laptop", issued.jti(), String.valueOf(System.currentTimeMillis()),
+                String.valueOf(issued.secondsToExpiry()), "5", "laptop",
+                String.valueOf(issued.expiresAt().toEpochMilli()));
+        VerifiedToken presented = jwtUtil.verify(issued.token()).orElseThrow();
+        TokenService nodeA = tokenService(jwtUtil);
+        TokenService nodeB = tokenService(jwtUtil);
+
+        TokenDto rotated = nodeA.refreshAccessToken(presented);
+        // 유예 시간 안에 다른 노드로 들어온 같은 토큰은 회전 상태 2를 받고 공유된 결과를 사용
+        TokenDto joined = nodeB.refreshAccessToken(presented);
+
+        assertThat(rotated.refreshToken()).isNotEqualTo(issued.token());
+        assertThat(joined).isEqualTo(rotated);
+    }
+
+    private TokenService tokenService(JwtUtil jwtUtil) {
+        RevocationEpochStore epochStore = mock(RevocationEpochStore.class);
+        when(epochStore.epochOfBlocking("1")).thenReturn(0L);
+        return new TokenService(jwtUtil, redisTemplate, redisTemplate, mock(AsyncTokenService.class),
+                mock(AuthStateMigration.class), epochStore, singleFlight(true),
+                new AuthObservations(ObservationRegistry.NOOP, new SimpleMeterRegistry()), keys,
+                false, true, Duration.ofSeconds(10));
+    }
+
+    private RefreshSingleFlight singleFlight(boolean enabled) {
+        return new RefreshSingleFlight(redisTemplate, listenerContainer, keys, new SimpleMeterRegistry(),
+                enabled, Duration.ofSeconds(5), AWAIT, "refresh-result");
+    }
+
+    private static VerifiedToken refreshToken(String jti) {
+        Date now = new Date();
+        return new VerifiedToken("refresh-" + jti, "1", "test@example.com", "refresh", jti, "laptop",
+                now, new Date(now.getTime() + 60_000));
+    }
+
+    // 저장 형식(ISO 문자열)과 비교할 수 있도록 밀리초 단위로 자름
+    private static TokenDto tokenDto(String name) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        return TokenDto.of("access-" + name, "refresh-" + name, now.plusMinutes(30), now.plusDays(14));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.cvmento.global.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RevocationEpochStoreTest extends RedisContainerTestSupport {
+
+    private static final String USER_ID = "1";
+    private static final String CHANNEL = "revocation-epoch";
+    private static final long TTL_SECONDS = 3600;
+
+    private RevocationEpochStore store;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReactiveStringRedisTemplate reactiveTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+        store = new RevocationEpochStore(redisTemplate, reactiveTemplate, reactiveTemplate,
+                mock(RedisMessageListenerContainer.class), meterRegistry,
+                new AuthObservations(ObservationRegistry.NOOP, meterRegistry), keys,
+                Duration.ofDays(14).toMillis(), 1_000, Duration.ofMinutes(1), CHANNEL);
+    }
+
+    @Test
+    void epochOf_기준_시각이_없으면_0() throws Exception {
+        assertThat(store.epochOfBlocking(USER_ID)).isZero();
+        assertThat(store.epochOf("2").get()).isZero();
+        assertThat(RevocationEpochStore.isRevoked(token(System.currentTimeMillis()), 0L)).isFalse();
+    }
+
+    @Test
+    void epochOf_캐시에_없으면_Redis에서_읽고_캐싱() throws Exception {
+        long epoch = System.currentTimeMillis();
+        redisTemplate.opsForValue().set(keys.revocationEpoch(USER_ID), String.valueOf(epoch));
+
+        assertThat(store.epochOf(USER_ID).get()).isEqualTo(epoch);
+        assertThat(store.cachedEpoch(USER_ID)).contains(epoch);
+    }
+
+    @Test
+    void epochOf_이전_버전의_초_단위_값은_다음_초의_ms로_변환() throws Exception {
+        redisTemplate.opsForValue().set(keys.revocationEpoch(USER_ID), "1700000000");
+        redisTemplate.opsForValue().set(keys.revocationEpoch("2"), "1700000000");
+
+        assertThat(store.epochOf(USER_ID).get()).isEqualTo(1_700_000_001_000L);
+        assertThat(store.epochOfBlocking("2")).isEqualTo(1_700_000_001_000L);
+    }
+
+    @Test
+    void revokeAll_현재_시각으로_올리고_TTL_설정() {
+        long before = System.currentTimeMillis();
+
+        store.revokeAll(USER_ID);
+
+        long epoch = Long.parseLong(redisTemplate.opsForValue().get(keys.revocationEpoch(USER_ID)));
+        assertThat(epoch).isBetween(before, System.currentTimeMillis());
+        assertThat(store.epochOfBlocking(USER_ID)).isEqualTo(epoch);
+        assertThat(redisTemplate.getExpire(keys.revocationEpoch(USER_ID))).isPositive();
+    }
+
+    @Test
+    void revokeAll_다른_노드가_올린_더_큰_기준_시각은_유지() {
+        long future = System.currentTimeMillis() + 100_000;
+        redisTemplate.opsForValue().set(keys.revocationEpoch(USER_ID), String.valueOf(future));
+
+        store.revokeAll(USER_ID);
+
+        assertThat(redisTemplate.opsForValue().get(keys.revocationEpoch(USER_ID))).isEqualTo(String.valueOf(future));
+        assertThat(store.epochOfBlocking(USER_ID)).isEqualTo(future);
+    }
+
+    @Test
+    void isRevoked_기준_시각_이전에_발급된_토큰만_거부() {
+        long epochMillis = 1_700_000_000_500L;
+
+        assertThat(RevocationEpochStore.isRevoked(token(epochMillis - 1), epochMillis)).isTrue();
+        // 폐기 직후 같은 초에 다시 로그인해 받은 토큰은 유효
+        assertThat(RevocationEpochStore.isRevoked(token(epochMillis), epochMillis)).isFalse();
+        assertThat(RevocationEpochStore.isRevoked(token(epochMillis + 1), epochMillis)).isFalse();
+    }
+
+    @Test
+    void isRevoked_ver_클레임이_있으면_ms_단위로_비교() {
+        JwtUtil jwtUtil = new JwtUtil("0123456789abcdef0123456789abcdef", 60_000, 120_000,
+                new VerifiedTokenCache(new SimpleMeterRegistry(), false, 1_000, DataSize.ofMegabytes(1)));
+        store.revokeAll(USER_ID);
+        long epoch = store.epochOfBlocking(USER_ID);
+
+        VerifiedToken reissued = jwtUtil.verify(jwtUtil.generateAccessToken(USER_ID, "test@example.com", "device")).orElseThrow();
+
+        assertThat(reissued.issuedAt().getTime()).isGreaterThanOrEqualTo(epoch);
+        assertThat(RevocationEpochStore.isRevoked(reissued, epoch)).isFalse();
+    }
+
+    @Test
+    void onMessage_더_큰_기준_시각만_반영하고_잘못된_메시지는_무시() {
+        store.onMessage(message(USER_ID + ":1700000002000"), null);
+        store.onMessage(message(USER_ID + ":1700000001000"), null);
+        store.onMessage(message("malformed"), null);
+        store.onMessage(message(USER_ID + ":abc"), null);
+
+        assertThat(store.cachedEpoch(USER_ID)).contains(1_700_000_002_000L);
+    }
+
+    @Test
+    void raiseRevocationEpoch_더_큰_값만_반영하고_TTL_설정() {
+        assertThat(raiseEpoch(1_700_000_002_000L)).isEqualTo(1_700_000_002_000L);
+        assertThat(raiseEpoch(1_700_000_001_000L)).isEqualTo(1_700_000_002_000L);
+        assertThat(raiseEpoch(1_700_000_003_000L)).isEqualTo(1_700_000_003_000L);
+
+        assertThat(redisTemplate.opsForValue().get(keys.revocationEpoch(USER_ID))).isEqualTo("1700000003000");
+        assertThat(redisTemplate.getExpire(keys.revocationEpoch(USER_ID))).isPositive();
+    }
+
+    @Test
+    void raiseRevocationEpoch_이전_버전의_초_단위_값과_비교() {
+        redisTemplate.opsForValue().set(keys.revocationEpoch(USER_ID), "1700000000");
+
+        assertThat(raiseEpoch(1_700_000_000_500L)).isEqualTo(1_700_000_001_000L);
+        assertThat(raiseEpoch(1_700_000_001_500L)).isEqualTo(1_700_000_001_500L);
+    }
+
+    private long raiseEpoch(long epochMillis) {
+        return redisTemplate.execute(TokenRedisScripts.RAISE_REVOCATION_EPOCH,
+                List.of(keys.revocationEpoch(USER_ID)),
+                String.valueOf(epochMillis), String.valueOf(TTL_SECONDS));
+    }
+
+    private static VerifiedToken token(long issuedAtMillis) {
+        return new VerifiedToken("token", USER_ID, "test@example.com", "access", "jti", "device",
+                new Date(issuedAtMillis), new Date(issuedAtMillis + 60_000));
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
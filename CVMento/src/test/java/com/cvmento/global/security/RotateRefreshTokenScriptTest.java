@@ -0,0 +1,84 @@
+package com.cvmento.global.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RotateRefreshTokenScriptTest extends RedisContainerTestSupport {
+
+    private static final String USER_ID = "1";
+    private static final long TTL_SECONDS = 3600;
+    private static final long GRACE_MILLIS = 10_000;
+
+    @Test
+    void rotateRefreshToken_일치하면_회전() {
+        issue("laptop", "jti-1", 1_000);
+
+        long status = rotate("laptop", "jti-1", "jti-2", 2_000);
+
+        assertThat(status).isEqualTo(1);
+        assertThat(session()).containsEntry("rt:laptop", "jti-2")
+                .containsEntry("prt:laptop", "jti-1")
+                .containsEntry("ra:laptop", "2000")
+                .containsEntry("la:laptop", "2000");
+        assertThat(redisTemplate.opsForZSet().score(keys.userDevices(USER_ID), "laptop")).isEqualTo(2000.0);
+    }
+
+    @Test
+    void rotateRefreshToken_유예_시간_내_직전_토큰은_동시_요청으로_처리() {
+        issue("laptop", "jti-1", 1_000);
+        rotate("laptop", "jti-1", "jti-2", 2_000);
+
+        long status = rotate("laptop", "jti-1", "jti-3", 2_000 + GRACE_MILLIS);
+
+        assertThat(status).isEqualTo(2);
+        assertThat(session()).containsEntry("rt:laptop", "jti-2");
+    }
+
+    @Test
+    void rotateRefreshToken_유예_시간_이후_직전_토큰은_재사용으로_모든_세션_폐기() {
+        issue("laptop", "jti-1", 1_000);
+        issue("phone", "jti-p", 1_000);
+        rotate("laptop", "jti-1", "jti-2", 2_000);
+
+        long status = rotate("laptop", "jti-1", "jti-3", 2_001 + GRACE_MILLIS);
+
+        assertThat(status).isEqualTo(-1);
+        assertThat(redisTemplate.hasKey(keys.userSession(USER_ID))).isFalse();
+        assertThat(redisTemplate.hasKey(keys.userDevices(USER_ID))).isFalse();
+    }
+
+    @Test
+    void rotateRefreshToken_알_수_없는_토큰은_거부() {
+        issue("laptop", "jti-1", 1_000);
+        rotate("laptop", "jti-1", "jti-2", 2_000);
+        rotate("laptop", "jti-2", "jti-3", 3_000);
+
+        // 두 세대 이전 토큰은 재사용 탐지 없이 거부
+        assertThat(rotate("laptop", "jti-1", "jti-4", 4_000)).isZero();
+        assertThat(rotate("unknown", "jti-3", "jti-4", 4_000)).isZero();
+        assertThat(session()).containsEntry("rt:laptop", "jti-3");
+    }
+
+    private long issue(String deviceId, String jti, long now) {
+        return redisTemplate.execute(TokenRedisScripts.ISSUE_TOKENS,
+                List.of(keys.userSession(USER_ID), keys.userDevices(USER_ID), keys.legacyRefreshToken(USER_ID)),
+                deviceId, jti, String.valueOf(now), String.valueOf(TTL_SECONDS), "5",
+                deviceId + "-name", String.valueOf(now + TTL_SECONDS * 1000));
+    }
+
+    private long rotate(String deviceId, String presentedJti, String newJti, long now) {
+        return redisTemplate.execute(TokenRedisScripts.ROTATE_REFRESH_TOKEN,
+                List.of(keys.userSession(USER_ID), keys.userDevices(USER_ID)),
+                presentedJti, newJti, String.valueOf(now), String.valueOf(TTL_SECONDS),
+                String.valueOf(GRACE_MILLIS), AuthRedisKeys.deviceSuffix(deviceId), deviceId,
+                String.valueOf(now + TTL_SECONDS * 1000));
+    }
+
+    private Map<Object, Object> session() {
+        return redisTemplate.opsForHash().entries(keys.userSession(USER_ID));
+    }
+}
@@ -0,0 +1,59 @@
+package com.cvmento.global.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TouchSessionScriptTest extends RedisContainerTestSupport {
+
+    private static final String USER_ID = "1";
+    private static final long TTL_SECONDS = 3600;
+
+    @Test
+    void touchSession_더_최근_시각만_반영() {
+        issue("laptop", "jti-1", 1_000);
+
+        assertThat(touch("laptop", 5_000)).isEqualTo(1);
+        assertThat(touch("laptop", 3_000)).isEqualTo(1);
+
+        assertThat(session()).containsEntry("la:laptop", "5000");
+        assertThat(redisTemplate.opsForZSet().score(keys.userDevices(USER_ID), "laptop")).isEqualTo(5000.0);
+    }
+
+    @Test
+    void touchSession_폐기된_기기_세션은_다시_만들지_않음() {
+        issue("laptop", "jti-1", 1_000);
+        revoke("laptop");
+
+        assertThat(touch("laptop", 5_000)).isZero();
+
+        assertThat(session()).doesNotContainKey("la:laptop");
+        assertThat(redisTemplate.opsForZSet().score(keys.userDevices(USER_ID), "laptop")).isNull();
+    }
+
+    private long issue(String deviceId, String jti, long now) {
+        return redisTemplate.execute(TokenRedisScripts.ISSUE_TOKENS,
+                List.of(keys.userSession(USER_ID), keys.userDevices(USER_ID), keys.legacyRefreshToken(USER_ID)),
+                deviceId, jti, String.valueOf(now), String.valueOf(TTL_SECONDS), "5",
+                deviceId + "-name", String.valueOf(now + TTL_SECONDS * 1000));
+    }
+
+    private long revoke(String deviceId) {
+        return redisTemplate.execute(TokenRedisScripts.REVOKE_DEVICE,
+                List.of(keys.userSession(USER_ID), keys.userDevices(USER_ID)),
+                AuthRedisKeys.deviceSuffix(deviceId), deviceId);
+    }
+
+    private long touch(String deviceId, long millis) {
+        return redisTemplate.execute(TokenRedisScripts.TOUCH_SESSION,
+                List.of(keys.userSession(USER_ID), keys.userDevices(USER_ID)),
+                AuthRedisKeys.deviceSuffix(deviceId), String.valueOf(millis), deviceId);
+    }
+
+    private Map<Object, Object> session() {
+        return redisTemplate.opsForHash().entries(keys.userSession(USER_ID));
+    }
+}